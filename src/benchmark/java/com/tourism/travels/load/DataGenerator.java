@@ -0,0 +1,180 @@
+package com.tourism.travels.load;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the database with a deterministic data set: the same properties always produce the same rows, so runs on
+ * different machines or branches see identical data. Tickets are skewed towards a few customers and packages, and
+ * towards the summer and December travel seasons.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class DataGenerator {
+
+    static final LocalDate FIRST_TRAVEL_DATE = LocalDate.of(2024, 1, 1);
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String[] FIRST_NAMES = {"Aarav", "Aditi", "Ananya", "Arjun", "Diya", "Ishaan", "Kabir",
+            "Kavya", "Meera", "Neha", "Priya", "Rahul", "Ravi", "Rohan", "Sai", "Sara", "Tara", "Vihaan", "Vijay",
+            "Zoya"};
+
+    private static final String[] LAST_NAMES = {"Agarwal", "Bose", "Das", "Gupta", "Iyer", "Joshi", "Kapoor",
+            "Kumar", "Menon", "Nair", "Patel", "Rao", "Reddy", "Shah", "Sharma", "Singh", "Teja", "Verma"};
+
+    private static final String[] DESTINATIONS = {"Agra", "Goa", "Jaipur", "Kerala", "Ladakh", "Manali", "Mysore",
+            "Ooty", "Rishikesh", "Varanasi"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestProperties loadTestProperties;
+
+    void generate() {
+
+        if (alreadyGenerated()) {
+
+            log.info("Reusing the existing benchmark data set");
+            return;
+        }
+
+        jdbcTemplate.update("DELETE FROM ticket");
+        jdbcTemplate.update("DELETE FROM ticket_ids");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("DELETE FROM package");
+
+        var random = new SplittableRandom(loadTestProperties.getSeed());
+
+        insertCustomers(random.split());
+        insertPackages(random.split());
+        insertTickets(random.split());
+    }
+
+    private boolean alreadyGenerated() {
+
+        return count("customer") == loadTestProperties.getCustomers()
+                && count("package") == loadTestProperties.getPackages()
+                && count("ticket") == loadTestProperties.getTickets();
+    }
+
+    private long count(String table) {
+
+        var count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+
+        return count == null ? 0 : count;
+    }
+
+    private void insertCustomers(SplittableRandom random) {
+
+        var rows = new ArrayList<Object[]>(BATCH_SIZE);
+
+        for (var customerId = 1; customerId <= loadTestProperties.getCustomers(); customerId++) {
+
+            rows.add(new Object[]{customerId, pick(FIRST_NAMES, random), pick(LAST_NAMES, random),
+                    "customer" + customerId + "@example.com", "secret"});
+
+            flush("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                    "VALUES (?, ?, ?, ?, ?)", rows, customerId == loadTestProperties.getCustomers());
+        }
+
+        log.info("Generated {} customers", loadTestProperties.getCustomers());
+    }
+
+    private void insertPackages(SplittableRandom random) {
+
+        var rows = new ArrayList<Object[]>(BATCH_SIZE);
+
+        for (var packageId = 1; packageId <= loadTestProperties.getPackages(); packageId++) {
+
+            rows.add(new Object[]{packageId, pick(DESTINATIONS, random) + " " + packageId,
+                    random.nextInt(1, 15) + " Days", random.nextInt(10, 400) * 50});
+
+            flush("INSERT INTO package (id, package_name, trip_duration, cost_per_person) VALUES (?, ?, ?, ?)",
+                    rows, packageId == loadTestProperties.getPackages());
+        }
+
+        log.info("Generated {} packages", loadTestProperties.getPackages());
+    }
+
+    private void insertTickets(SplittableRandom random) {
+
+        var customers = new Skew(loadTestProperties.getCustomers(), loadTestProperties.getSkew());
+        var packages = new Skew(loadTestProperties.getPackages(), loadTestProperties.getSkew());
+        var rows = new ArrayList<Object[]>(BATCH_SIZE);
+
+        for (var ticketId = 1; ticketId <= loadTestProperties.getTickets(); ticketId++) {
+
+            var customerId = customers.next(random);
+            var packageId = packages.next(random);
+            var totalMembers = totalMembers(random);
+
+            rows.add(new Object[]{ticketId, customerId, packageId, Date.valueOf(travelDate(random)), totalMembers,
+                    customerId, packageId, totalMembers, packageId});
+
+            flush("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, total_members, " +
+                    "customer_first_name, cost_per_person, total_cost) VALUES (?, ?, ?, ?, ?, " +
+                    "(SELECT first_name FROM customer WHERE customer_id = ?), " +
+                    "(SELECT cost_per_person FROM package WHERE id = ?), " +
+                    "? * (SELECT cost_per_person FROM package WHERE id = ?))", rows,
+                    ticketId == loadTestProperties.getTickets());
+
+            if (ticketId % 1_000_000 == 0) {
+
+                log.info("Generated {} tickets", ticketId);
+            }
+        }
+
+        jdbcTemplate.update("INSERT INTO ticket_ids (ticket_id) SELECT ticket_id FROM ticket");
+
+        log.info("Generated {} tickets", loadTestProperties.getTickets());
+    }
+
+    private void flush(String sql, List<Object[]> rows, boolean last) {
+
+        if (rows.size() == BATCH_SIZE || (last && !rows.isEmpty())) {
+
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+
+    /**
+     * Two years of travel dates, with May-June and December three times as busy as the rest of the year.
+     */
+    private static LocalDate travelDate(SplittableRandom random) {
+
+        while (true) {
+
+            var travelDate = FIRST_TRAVEL_DATE.plusDays(random.nextInt(730));
+            var month = travelDate.getMonthValue();
+            var peak = month == 5 || month == 6 || month == 12;
+
+            if (peak || random.nextInt(3) == 0) {
+
+                return travelDate;
+            }
+        }
+    }
+
+    /**
+     * Mostly couples and small families.
+     */
+    private static int totalMembers(SplittableRandom random) {
+
+        var roll = random.nextInt(100);
+
+        return roll < 20 ? 1 : roll < 60 ? 2 : roll < 80 ? 3 : roll < 95 ? 4 : random.nextInt(5, 11);
+    }
+
+    private static String pick(String[] values, SplittableRandom random) {
+
+        return values[random.nextInt(values.length)];
+    }
+
+}
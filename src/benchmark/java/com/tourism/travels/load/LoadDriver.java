@@ -0,0 +1,210 @@
+package com.tourism.travels.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop driver: each worker sends its next request as soon as the previous response arrives, so throughput is
+ * whatever the application sustains at the configured concurrency. Latencies are recorded per route in HdrHistograms
+ * and everything recorded during the warm-up is discarded.
+ */
+@Slf4j
+class LoadDriver {
+
+    private static final long HIGHEST_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final List<Route> routes;
+    private final int[] cumulativeWeights;
+    private final Map<String, Recorder> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final LoadTestProperties loadTestProperties;
+    private final HttpClient httpClient;
+
+    private volatile boolean running = true;
+
+    LoadDriver(List<Route> routes, LoadTestProperties loadTestProperties) {
+
+        this.routes = routes;
+        this.loadTestProperties = loadTestProperties;
+
+        cumulativeWeights = new int[routes.size()];
+
+        var total = 0;
+
+        for (var index = 0; index < routes.size(); index++) {
+
+            total += routes.get(index).weight();
+            cumulativeWeights[index] = total;
+
+            latencies.put(routes.get(index).name(), new Recorder(HIGHEST_LATENCY_MICROS, 3));
+            errors.put(routes.get(index).name(), new LongAdder());
+        }
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    void run() throws InterruptedException {
+
+        var workers = Executors.newFixedThreadPool(loadTestProperties.getConcurrency());
+        var random = new SplittableRandom(loadTestProperties.getSeed());
+
+        for (var worker = 0; worker < loadTestProperties.getConcurrency(); worker++) {
+
+            var workerRandom = random.split();
+            workers.execute(() -> work(workerRandom));
+        }
+
+        log.info("Warming up for {}", loadTestProperties.getWarmup());
+        Thread.sleep(loadTestProperties.getWarmup().toMillis());
+
+        latencies.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+
+        var resources = ResourceUsage.now();
+        var start = System.nanoTime();
+
+        log.info("Measuring for {}", loadTestProperties.getDuration());
+        Thread.sleep(loadTestProperties.getDuration().toMillis());
+
+        var elapsed = Duration.ofNanos(System.nanoTime() - start);
+        var used = ResourceUsage.now().minus(resources);
+        var results = new LinkedHashMap<String, Histogram>();
+
+        latencies.forEach((route, recorder) -> results.put(route, recorder.getIntervalHistogram()));
+
+        running = false;
+        stop(workers);
+
+        report(results, elapsed, used);
+    }
+
+    private void work(SplittableRandom random) {
+
+        while (running) {
+
+            var route = next(random);
+            var request = route.request().apply(random);
+            var start = System.nanoTime();
+
+            try {
+
+                var response = httpClient.send(request, BodyHandlers.discarding());
+
+                if (response.statusCode() >= 400 && response.statusCode() != 404) {
+
+                    errors.get(route.name()).increment();
+                }
+            }
+            catch (IOException exception) {
+
+                errors.get(route.name()).increment();
+            }
+            catch (InterruptedException exception) {
+
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            latencies.get(route.name()).recordValue(
+                    Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), HIGHEST_LATENCY_MICROS));
+        }
+    }
+
+    private Route next(SplittableRandom random) {
+
+        var roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (var index = 0; index < cumulativeWeights.length; index++) {
+
+            if (roll < cumulativeWeights[index]) {
+
+                return routes.get(index);
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private void report(Map<String, Histogram> results, Duration elapsed, ResourceUsage used) {
+
+        var seconds = elapsed.toNanos() / 1e9;
+        var total = new Histogram(HIGHEST_LATENCY_MICROS, 3);
+        var report = new StringBuilder(String.format("%n%-26s %10s %8s %10s %10s %10s %10s %10s%n",
+                "Route", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms"));
+
+        results.forEach((route, histogram) -> {
+
+            total.add(histogram);
+            report.append(line(route, histogram, errors.get(route).sum(), seconds));
+        });
+
+        var totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+        report.append(line("TOTAL", total, totalErrors, seconds));
+
+        var requests = Math.max(total.getTotalCount(), 1);
+        report.append(String.format("%nCPU %.1f us/request, allocated %.1f KB/request (whole JVM, driver included)%n",
+                used.cpuNanos() / 1e3 / requests, used.allocatedBytes() / 1024.0 / requests));
+
+        log.info(report.toString());
+    }
+
+    private static String line(String route, Histogram histogram, long errors, double seconds) {
+
+        return String.format("%-26s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", route,
+                histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMaxValue() / 1e3);
+    }
+
+    private static void stop(ExecutorService workers) throws InterruptedException {
+
+        workers.shutdown();
+
+        if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+
+            workers.shutdownNow();
+        }
+    }
+
+    private record ResourceUsage(long cpuNanos, long allocatedBytes) {
+
+        static ResourceUsage now() {
+
+            var operatingSystem = (com.sun.management.OperatingSystemMXBean)
+                    ManagementFactory.getOperatingSystemMXBean();
+            var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            var allocatedBytes = 0L;
+
+            for (var allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+
+                allocatedBytes += Math.max(allocated, 0);
+            }
+
+            return new ResourceUsage(operatingSystem.getProcessCpuTime(), allocatedBytes);
+        }
+
+        ResourceUsage minus(ResourceUsage earlier) {
+
+            return new ResourceUsage(cpuNanos - earlier.cpuNanos, allocatedBytes - earlier.allocatedBytes);
+        }
+
+    }
+
+}
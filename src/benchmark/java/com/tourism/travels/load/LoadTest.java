@@ -0,0 +1,46 @@
+package com.tourism.travels.load;
+
+import com.tourism.travels.TravelsApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application on an embedded H2 database in MySQL mode, generates the data set and drives every REST
+ * endpoint. Settings are Spring properties under {@code load.*}, e.g. {@code --load.tickets=20000000}.
+ */
+@Slf4j
+public class LoadTest {
+
+    public static void main(String[] args) throws InterruptedException {
+
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        var application = new SpringApplication(TravelsApplication.class);
+        application.setAdditionalProfiles("benchmark");
+
+        try (var context = application.run(args)) {
+
+            var loadTestProperties = Binder.get(context.getEnvironment())
+                    .bindOrCreate("load", LoadTestProperties.class);
+
+            new DataGenerator(context.getBean(JdbcTemplate.class), loadTestProperties).generate();
+
+            var webServer = ((WebServerApplicationContext) context).getWebServer();
+            var contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+            var routes = new Routes("http://localhost:" + webServer.getPort() + contextPath, loadTestProperties).all()
+                    .stream()
+                    .filter(route -> loadTestProperties.getRoutes().isEmpty()
+                            ? !Routes.OPT_IN.contains(route.name())
+                            : loadTestProperties.getRoutes().contains(route.name()))
+                    .toList();
+
+            log.info("Driving {} routes with {} workers", routes.size(), loadTestProperties.getConcurrency());
+
+            new LoadDriver(routes, loadTestProperties).run();
+        }
+    }
+
+}
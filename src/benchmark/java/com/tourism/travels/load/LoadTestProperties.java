@@ -0,0 +1,40 @@
+package com.tourism.travels.load;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class LoadTestProperties {
+
+    private int customers = 100_000;
+
+    private int packages = 1_000;
+
+    private int tickets = 5_000_000;
+
+    /**
+     * Zipf exponent used to pick customers and packages, both when generating tickets and when choosing request
+     * targets. 0 is uniform; around 1 a few hundred customers own most of the tickets.
+     */
+    private double skew = 1.1;
+
+    private long seed = 42;
+
+    private int concurrency = 32;
+
+    private Duration warmup = Duration.ofSeconds(20);
+
+    private Duration duration = Duration.ofSeconds(60);
+
+    /**
+     * Route names to drive. Empty means every route except the unpaged list endpoints, whose responses grow with
+     * the generated data set, and the reactive ones.
+     */
+    private List<String> routes = new ArrayList<>();
+
+}
@@ -0,0 +1,11 @@
+package com.tourism.travels.load;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * One request shape the load driver can send, weighted by how often it appears in the traffic mix.
+ */
+record Route(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+}
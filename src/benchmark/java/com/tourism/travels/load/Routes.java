@@ -0,0 +1,220 @@
+package com.tourism.travels.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Every REST endpoint of the application, with a traffic mix dominated by reads. Reads pick their targets with the
+ * same skew the data was generated with, so hot customers and packages are hit most. Writes create their own rows,
+ * and the delete routes remove those, which keeps the generated data set stable across runs.
+ */
+class Routes {
+
+    /**
+     * Routes that return every row of a table, or need travels.reactive.enabled, and are left out unless asked for
+     * by name.
+     */
+    static final List<String> OPT_IN = List.of("getCustomers", "getTickets", "reactiveGetTickets",
+            "reactiveSearchByCustomer", "reactiveSearchByPackage", "reactiveSearchByEmail",
+            "reactiveSearchByTravelDate");
+
+    private final String baseUrl;
+    private final LoadTestProperties loadTestProperties;
+    private final Skew customers;
+    private final Skew packages;
+
+    private final AtomicInteger nextCustomerId;
+    private final AtomicInteger nextPackageId;
+    private final AtomicInteger nextTicketId;
+
+    private final Queue<Integer> createdCustomerIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> createdPackageIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Integer> createdTicketIds = new ConcurrentLinkedQueue<>();
+
+    Routes(String baseUrl, LoadTestProperties loadTestProperties) {
+
+        this.baseUrl = baseUrl;
+        this.loadTestProperties = loadTestProperties;
+
+        customers = new Skew(loadTestProperties.getCustomers(), loadTestProperties.getSkew());
+        packages = new Skew(loadTestProperties.getPackages(), loadTestProperties.getSkew());
+
+        nextCustomerId = new AtomicInteger(loadTestProperties.getCustomers() + 1_000_000);
+        nextPackageId = new AtomicInteger(loadTestProperties.getPackages() + 1_000_000);
+        nextTicketId = new AtomicInteger(loadTestProperties.getTickets() + 1_000_000);
+    }
+
+    List<Route> all() {
+
+        return List.of(
+                new Route("getCustomers", 1, random -> get("/customers")),
+                new Route("getCustomerById", 80, random -> get("/customers/" + customers.next(random))),
+                new Route("getCustomersByIds", 20, random -> post("/customers/batch", batch(customers, random))),
+                new Route("getItinerary", 60, random -> get("/customers/" + customers.next(random) + "/itinerary")),
+                new Route("signUpCustomer", 5, this::signUpCustomer),
+                new Route("updateCustomerDetails", 5, random -> put("/customers/update",
+                        customer(customers.next(random), random))),
+                new Route("deleteCustomer", 3, random -> delete("/customers/", createdCustomerIds)),
+                new Route("getPackages", 20, random -> get("/packages")),
+                new Route("getPackageById", 80, random -> get("/packages/" + packages.next(random))),
+                new Route("getPackagesByIds", 20, random -> post("/packages/batch", batch(packages, random))),
+                new Route("addPackage", 2, this::addPackage),
+                new Route("updatePackage", 2, random -> put("/packages/update", pkg(packages.next(random), random))),
+                new Route("deletePackage", 1, random -> delete("/packages/", createdPackageIds)),
+                new Route("getTickets", 1, random -> get("/tickets")),
+                new Route("getTicketById", 60, random -> get("/tickets/" + ticketId(random))),
+                new Route("getTicketsByIds", 20, random -> post("/tickets/batch", batch(random))),
+                new Route("searchByCustomer", 100, random -> search(random,
+                        "\"customerId\": \"" + customers.next(random) + "\"")),
+                new Route("searchByPackage", 60, random -> search(random,
+                        "\"packageId\": \"" + packages.next(random) + "\"")),
+                new Route("searchByEmail", 40, random -> search(random,
+                        "\"email\": \"customer" + customers.next(random) + "@example.com\"")),
+                new Route("searchByTravelDate", 40, random -> search(random,
+                        "\"travelDate\": \"" + DataGenerator.FIRST_TRAVEL_DATE.plusDays(random.nextInt(730)) + "\"")),
+                new Route("createTicket", 10, this::createTicket),
+                new Route("updateTicket", 10, random -> put("/tickets/update", ticket(ticketId(random), random))),
+                new Route("cancelTicket", 8, random -> delete("/tickets/", createdTicketIds)),
+                new Route("reactiveGetTickets", 1, random -> ndjson(request("/reactive/tickets").GET())),
+                new Route("reactiveSearchByCustomer", 100, random -> reactiveSearch(random,
+                        "\"customerId\": \"" + customers.next(random) + "\"")),
+                new Route("reactiveSearchByPackage", 60, random -> reactiveSearch(random,
+                        "\"packageId\": \"" + packages.next(random) + "\"")),
+                new Route("reactiveSearchByEmail", 40, random -> reactiveSearch(random,
+                        "\"email\": \"customer" + customers.next(random) + "@example.com\"")),
+                new Route("reactiveSearchByTravelDate", 40, random -> reactiveSearch(random,
+                        "\"travelDate\": \"" + DataGenerator.FIRST_TRAVEL_DATE.plusDays(random.nextInt(730)) + "\"")));
+    }
+
+    private HttpRequest signUpCustomer(SplittableRandom random) {
+
+        var customerId = nextCustomerId.getAndIncrement();
+        createdCustomerIds.add(customerId);
+
+        return put("/customers/signup", customer(customerId, random));
+    }
+
+    private HttpRequest addPackage(SplittableRandom random) {
+
+        var packageId = nextPackageId.getAndIncrement();
+        createdPackageIds.add(packageId);
+
+        return put("/packages/add", pkg(packageId, random));
+    }
+
+    private HttpRequest createTicket(SplittableRandom random) {
+
+        var ticketId = nextTicketId.getAndIncrement();
+        createdTicketIds.add(ticketId);
+
+        return put("/tickets/create", ticket(ticketId, random));
+    }
+
+    private int ticketId(SplittableRandom random) {
+
+        return random.nextInt(1, loadTestProperties.getTickets() + 1);
+    }
+
+    private String customer(int customerId, SplittableRandom random) {
+
+        return "{\"customerId\": " + customerId + ", \"firstName\": \"Load\", \"lastName\": \"Test\", " +
+                "\"email\": \"customer" + customerId + "@example.com\", \"password\": \"secret" +
+                random.nextInt(1000) + "\"}";
+    }
+
+    private String pkg(int packageId, SplittableRandom random) {
+
+        return "{\"packageId\": " + packageId + ", \"packageName\": \"Package " + packageId + "\", " +
+                "\"tripDuration\": \"" + random.nextInt(1, 15) + " Days\", " +
+                "\"costPerPerson\": " + random.nextInt(10, 400) * 50 + "}";
+    }
+
+    private String ticket(int ticketId, SplittableRandom random) {
+
+        return "{\"ticketId\": \"" + ticketId + "\", \"customerId\": \"" + customers.next(random) + "\", " +
+                "\"packageId\": \"" + packages.next(random) + "\", " +
+                "\"travelDate\": \"" + LocalDate.now().plusDays(random.nextInt(1, 365)) + "\", " +
+                "\"totalMembers\": \"" + random.nextInt(1, 7) + "\"}";
+    }
+
+    private HttpRequest search(SplittableRandom random, String criteria) {
+
+        return post("/tickets/search", searchBody(random, criteria));
+    }
+
+    private HttpRequest reactiveSearch(SplittableRandom random, String criteria) {
+
+        return ndjson(request("/reactive/tickets/search").POST(BodyPublishers.ofString(searchBody(random, criteria))));
+    }
+
+    private static String searchBody(SplittableRandom random, String criteria) {
+
+        var sort = random.nextInt(4) == 0 ? "CUSTOMER_NAME" : "TRAVEL_DATE";
+
+        return "{" + criteria + ", \"sortResultsBy\": {\"fieldName\": \"" + sort + "\"}, " +
+                "\"pagination\": {\"pageNumber\": " + random.nextInt(3) + ", \"pageSize\": 25}}";
+    }
+
+    private static HttpRequest ndjson(HttpRequest.Builder request) {
+
+        return request.header("Accept", "application/x-ndjson").build();
+    }
+
+    private static String batch(Skew skew, SplittableRandom random) {
+
+        return ids(IntStream.generate(() -> skew.next(random)));
+    }
+
+    private String batch(SplittableRandom random) {
+
+        return ids(IntStream.generate(() -> ticketId(random)));
+    }
+
+    private static String ids(IntStream ids) {
+
+        return ids.limit(20)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ", "{\"ids\": [", "]}"));
+    }
+
+    /**
+     * Deletes a row created earlier in the run, or a missing one when none is left, which exercises the 404 path.
+     */
+    private HttpRequest delete(String path, Queue<Integer> createdIds) {
+
+        var id = createdIds.poll();
+
+        return request(path + (id == null ? Integer.MAX_VALUE : id)).DELETE().build();
+    }
+
+    private HttpRequest get(String path) {
+
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+
+        return request(path).POST(BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest put(String path, String body) {
+
+        return request(path).PUT(BodyPublishers.ofString(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json");
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.tourism.travels.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over the ids 1..size, where id 1 is the most popular.
+ */
+class Skew {
+
+    private final double[] cumulative;
+
+    Skew(int size, double exponent) {
+
+        cumulative = new double[size];
+
+        var total = 0.0;
+
+        for (var rank = 0; rank < size; rank++) {
+
+            total += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = total;
+        }
+
+        for (var rank = 0; rank < size; rank++) {
+
+            cumulative[rank] /= total;
+        }
+    }
+
+    int next(SplittableRandom random) {
+
+        var index = Arrays.binarySearch(cumulative, random.nextDouble());
+
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+
+}
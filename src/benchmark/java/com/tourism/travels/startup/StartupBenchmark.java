@@ -0,0 +1,204 @@
+package com.tourism.travels.startup;
+
+import com.tourism.travels.TravelsApplication;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from launching a JVM to the first successful request, with and without Spring AOT and a
+ * class-data-sharing archive. The archive is recorded by a training run first. Each mode is launched {@code runs}
+ * times on an in-memory H2 database, and the median and best times are reported.
+ * <p>
+ * CDS only archives classes loaded from jars, so the application runs from a plain jar of target/classes. The
+ * dependencies are the benchmark's own classpath, which includes H2, minus devtools.
+ */
+@Slf4j
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final String AOT = "-Dspring.aot.enabled=true";
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+
+        var applicationJar = Path.of(args[0]);
+        var runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        var workDirectory = Files.createDirectories(applicationJar.resolveSibling("startup"));
+        var archive = workDirectory.resolve("travels.jsa");
+        var classpath = classpath(applicationJar);
+
+        Files.deleteIfExists(archive);
+        launch(classpath, List.of(AOT, "-XX:ArchiveClassesAtExit=" + archive), workDirectory.resolve("training.log"),
+                true);
+
+        var report = new StringBuilder(String.format("%n%-10s %12s %12s%n", "Mode", "Median ms", "Best ms"));
+
+        report.append(measure("plain", classpath, List.of(), runs, workDirectory));
+        report.append(measure("cds", classpath, List.of("-XX:SharedArchiveFile=" + archive), runs, workDirectory));
+        report.append(measure("aot", classpath, List.of(AOT), runs, workDirectory));
+        report.append(measure("aot+cds", classpath, List.of(AOT, "-XX:SharedArchiveFile=" + archive), runs,
+                workDirectory));
+
+        log.info("Time to first successful request, {} runs each:{}", runs, report);
+    }
+
+    private static String measure(String mode, List<String> classpath, List<String> jvmOptions, int runs,
+                                  Path workDirectory) throws Exception {
+
+        var times = new long[runs];
+
+        for (var run = 0; run < runs; run++) {
+
+            times[run] = launch(classpath, jvmOptions, workDirectory.resolve(mode + "-" + run + ".log"), false)
+                    .toMillis();
+        }
+
+        Arrays.sort(times);
+
+        return String.format("%-10s %12d %12d%n", mode, times[runs / 2], times[0]);
+    }
+
+    private static Duration launch(List<String> classpath, List<String> jvmOptions, Path logFile, boolean training)
+            throws Exception {
+
+        var port = freePort();
+        var baseUrl = "http://localhost:" + port + "/travels-api";
+
+        var command = new ArrayList<String>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(List.of(
+                "-classpath", String.join(File.pathSeparator, classpath),
+                TravelsApplication.class.getName(),
+                "--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password="));
+
+        var start = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+
+        try {
+
+            awaitFirstSuccess(baseUrl, process, logFile);
+
+            var timeToFirstRequest = Duration.ofNanos(System.nanoTime() - start);
+
+            if (training) {
+
+                exercise(baseUrl);
+            }
+
+            return timeToFirstRequest;
+        }
+        finally {
+
+            // A graceful exit, so that a training run gets to write its archive.
+            process.destroy();
+
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+
+                process.destroyForcibly();
+            }
+        }
+
+    }
+
+    private static void awaitFirstSuccess(String baseUrl, Process process, Path logFile) throws Exception {
+
+        var deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/packages")).GET().build();
+
+        while (System.nanoTime() < deadline) {
+
+            if (!process.isAlive()) {
+
+                throw new IllegalStateException("Application exited during startup, see " + logFile);
+            }
+
+            try {
+
+                if (HTTP_CLIENT.send(request, BodyHandlers.discarding()).statusCode() == 200) {
+
+                    return;
+                }
+            }
+            catch (ConnectException exception) {
+
+                // Not listening yet.
+            }
+
+            Thread.sleep(5);
+        }
+
+        throw new IllegalStateException("No successful request within " + STARTUP_TIMEOUT + ", see " + logFile);
+    }
+
+    /**
+     * Loads the classes behind the main request paths into the training run, so they end up in the archive.
+     */
+    private static void exercise(String baseUrl) throws Exception {
+
+        var requests = List.of(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/customers")).GET().build(),
+                HttpRequest.newBuilder(URI.create(baseUrl + "/tickets/1")).GET().build(),
+                HttpRequest.newBuilder(URI.create(baseUrl + "/tickets/search"))
+                        .header("Content-Type", "application/json")
+                        .POST(BodyPublishers.ofString("{\"customerId\": \"1\"}"))
+                        .build());
+
+        for (var request : requests) {
+
+            HTTP_CLIENT.send(request, BodyHandlers.discarding());
+        }
+
+    }
+
+    private static List<String> classpath(Path applicationJar) {
+
+        var classpath = new ArrayList<String>();
+        classpath.add(applicationJar.toString());
+
+        for (var entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+
+            if (entry.endsWith(".jar") && !entry.contains("spring-boot-devtools")) {
+
+                classpath.add(entry);
+            }
+        }
+
+        return classpath;
+    }
+
+    private static int freePort() throws IOException {
+
+        try (var socket = new ServerSocket(0)) {
+
+            return socket.getLocalPort();
+        }
+    }
+
+}
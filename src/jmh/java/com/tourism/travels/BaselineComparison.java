@@ -0,0 +1,91 @@
+package com.tourism.travels;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result with a stored baseline and exits non-zero when any benchmark regressed by more than
+ * the given percentage. Refresh the baseline by copying a result file over it.
+ */
+public class BaselineComparison {
+
+    public static void main(String[] args) throws IOException {
+
+        var resultFile = Path.of(args[0]);
+        var baselineFile = Path.of(args[1]);
+        var threshold = Double.parseDouble(args[2]);
+
+        if (Files.notExists(baselineFile)) {
+
+            System.out.printf("No baseline at %s, copy %s there to create one%n", baselineFile, resultFile);
+            return;
+        }
+
+        var results = read(resultFile);
+        var baseline = read(baselineFile);
+        var regressions = 0;
+
+        System.out.printf("%-90s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+
+        for (var entry : new TreeMap<>(results).entrySet()) {
+
+            var current = entry.getValue();
+            var previous = baseline.get(entry.getKey());
+
+            if (previous == null) {
+
+                System.out.printf("%-90s %14s %14.3f %9s%n", entry.getKey(), "-", current.score(), "new");
+                continue;
+            }
+
+            var change = (current.score() - previous.score()) / previous.score() * 100;
+            var worse = current.higherIsBetter() ? -change : change;
+            var regressed = worse > threshold;
+
+            if (regressed) {
+
+                regressions++;
+            }
+
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), previous.score(), current.score(),
+                    change, regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+
+            System.out.printf("%d benchmark(s) regressed by more than %.0f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+
+        var scores = new LinkedHashMap<String, Score>();
+
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+
+            var key = new StringBuilder(run.get("benchmark").asText());
+            run.path("params").fields()
+                    .forEachRemaining(param -> key.append(' ').append(param.getKey()).append('=')
+                            .append(param.getValue().asText()));
+
+            var primaryMetric = run.get("primaryMetric");
+            var higherIsBetter = run.get("mode").asText().equals("thrpt");
+
+            scores.put(key.toString(), new Score(primaryMetric.get("score").asDouble(), higherIsBetter));
+        }
+
+        return scores;
+    }
+
+    private record Score(double score, boolean higherIsBetter) {
+    }
+
+}
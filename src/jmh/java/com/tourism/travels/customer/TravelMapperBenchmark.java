@@ -0,0 +1,62 @@
+package com.tourism.travels.customer;
+
+import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
+import com.tourism.travels.pojo.TicketResource;
+import com.tourism.travels.sql.CustomerEntity;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.TicketEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TravelMapperBenchmark {
+
+    private final TravelMapper travelMapper = new TravelMapperImpl();
+
+    private TicketEntity ticketEntity;
+
+    @Setup
+    public void setup() {
+
+        var customerEntity = new CustomerEntity();
+        customerEntity.setCustomerId(1);
+        customerEntity.setFirstName("Sai");
+        customerEntity.setLastName("Kumar");
+        customerEntity.setEmail("sai@gmail.com");
+
+        var packageEntity = new PackageEntity();
+        packageEntity.setPackageId(1);
+        packageEntity.setPackageName("Agra");
+        packageEntity.setTripDuration("2 Days");
+        packageEntity.setCostPerPerson(1500);
+
+        ticketEntity = new TicketEntity();
+        ticketEntity.setTicketId(1);
+        ticketEntity.setCustomerId(1);
+        ticketEntity.setPackageId(1);
+        ticketEntity.setTravelDate(LocalDate.of(2030, 1, 15));
+        ticketEntity.setTotalMembers(3);
+        ticketEntity.setCustomerEntity(customerEntity);
+        ticketEntity.setPackageEntity(packageEntity);
+    }
+
+    @Benchmark
+    public TicketDetail mapTicketDetails() {
+
+        return travelMapper.mapTicketDetails(ticketEntity);
+    }
+
+    @Benchmark
+    public TicketResource toTicketResource() {
+
+        return travelMapper.toTicketResource(ticketEntity);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.tourism.travels.exception;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * The full MVC dispatch of a lookup that misses, from handler to serialized error body, under many concurrent
+ * callers as seen with scraping traffic.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class NotFoundBenchmark {
+
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setup() {
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new MissingController())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Benchmark
+    public MvcResult notFound() throws Exception {
+
+        return mockMvc.perform(get("/customers/42")).andReturn();
+    }
+
+    @RestController
+    static class MissingController {
+
+        @GetMapping("/customers/{customerId}")
+        public Object getCustomerById(@PathVariable String customerId) {
+
+            return Optional.empty().orElseThrow(NotFoundException::instance);
+        }
+
+    }
+
+}
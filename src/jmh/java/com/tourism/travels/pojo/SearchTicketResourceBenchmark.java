@@ -0,0 +1,68 @@
+package com.tourism.travels.pojo;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchTicketResourceBenchmark {
+
+    @Param({"25", "500", "5000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+
+    private SearchTicketResource searchTicketResource;
+
+    @Setup
+    public void setup() {
+
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        var pagination = new Pagination();
+        pagination.setPageSize(pageSize);
+        pagination.setTotalReturnCount(pageSize * 4L);
+        pagination.setTotalRowCount(pageSize);
+
+        var ticketDetails = new ArrayList<TicketDetail>(pageSize);
+
+        for (var i = 0; i < pageSize; i++) {
+
+            var ticketDetail = new TicketDetail();
+            ticketDetail.setFirstName("Customer" + i);
+            ticketDetail.setLastName("Surname" + i);
+            ticketDetail.setEmail("customer" + i + "@gmail.com");
+            ticketDetail.setPackageName("Package" + i % 20);
+            ticketDetail.setTripDuration((i % 7 + 1) + " Days");
+            ticketDetail.setTravelDate(LocalDate.of(2030, 1, 1).plusDays(i % 365));
+            ticketDetail.setTotalMembers(i % 6 + 1);
+            ticketDetail.setTotalCostOfTrip((i % 6 + 1) * 1500);
+
+            ticketDetails.add(ticketDetail);
+        }
+
+        searchTicketResource = new SearchTicketResource();
+        searchTicketResource.setPagination(pagination);
+        searchTicketResource.setTicketDetails(ticketDetails);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+
+        return objectMapper.writeValueAsBytes(searchTicketResource);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.tourism.travels.ticket;
+
+import com.querydsl.core.types.Predicate;
+import com.tourism.travels.pojo.SearchRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBuilderBenchmark {
+
+    /**
+     * Every non-empty combination of the search criteria, as a bit mask of
+     * customerId (1), packageId (2), email (4) and travelDate (8).
+     */
+    @Param({"1", "2", "3", "4", "5", "6", "7", "8", "9", "10", "11", "12", "13", "14", "15"})
+    private int criteria;
+
+    private final PredicateBuilder predicateBuilder = new PredicateBuilder();
+
+    private SearchRequest searchRequest;
+
+    @Setup
+    public void setup() {
+
+        searchRequest = new SearchRequest();
+
+        if ((criteria & 1) != 0) {
+
+            searchRequest.setCustomerId("1");
+        }
+
+        if ((criteria & 2) != 0) {
+
+            searchRequest.setPackageId("2");
+        }
+
+        if ((criteria & 4) != 0) {
+
+            searchRequest.setEmail("sai@gmail.com");
+        }
+
+        if ((criteria & 8) != 0) {
+
+            searchRequest.setTravelDate("2030-01-15");
+        }
+    }
+
+    @Benchmark
+    public Predicate buildSearchPredicate() {
+
+        return predicateBuilder.buildSearchPredicate(searchRequest);
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.tourism.travels.ticket;
+
+import com.tourism.travels.TravelsApplication;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.sql.TicketRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Runs one ticket search against an in-memory H2 database, through the Querydsl predicate that used to serve it and
+ * through the named query of its shape. Both return the same page of the same rows, so the difference is the cost
+ * of building, rendering and translating the query per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchQueryBenchmark {
+
+    private static final LocalDate FIRST_TRAVEL_DATE = LocalDate.parse("2030-01-01");
+
+    /**
+     * A bit mask of customerId (1), packageId (2), email (4) and travelDate (8).
+     */
+    @Param({"1", "5", "15"})
+    private int criteria;
+
+    private ConfigurableApplicationContext context;
+    private TicketRepository ticketRepository;
+    private TransactionTemplate transactionTemplate;
+    private PredicateBuilder predicateBuilder;
+
+    private SearchRequest searchRequest;
+    private PageRequest pageRequest;
+
+    @Setup
+    public void setup() {
+
+        context = new SpringApplicationBuilder(TravelsApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:search-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--travels.warmup.enabled=false",
+                        "--logging.level.root=warn");
+
+        ticketRepository = context.getBean(TicketRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        predicateBuilder = context.getBean(PredicateBuilder.class);
+
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.batchUpdate("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                "VALUES (?, ?, ?, ?, 'secret')", IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> new Object[] {i, "First" + i, "Last" + i, "customer" + i + "@example.com"})
+                .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO package (id, package_name, trip_duration, cost_per_person) " +
+                "VALUES (?, ?, '3 Days', 2500)", IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> new Object[] {i, "Package" + i})
+                .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, total_members, " +
+                "customer_first_name, cost_per_person, total_cost) VALUES (?, ?, ?, ?, 2, ?, 2500, 5000)", IntStream.rangeClosed(1, 5_000)
+                .mapToObj(i -> new Object[] {i, i % 100 + 1, i % 10 + 1, FIRST_TRAVEL_DATE.plusDays(i % 50),
+                        "First" + (i % 100 + 1)})
+                .toList());
+
+        searchRequest = new SearchRequest();
+
+        if ((criteria & 1) != 0) {
+
+            searchRequest.setCustomerId("7");
+        }
+
+        if ((criteria & 2) != 0) {
+
+            searchRequest.setPackageId("7");
+        }
+
+        if ((criteria & 4) != 0) {
+
+            searchRequest.setEmail("customer7@example.com");
+        }
+
+        if ((criteria & 8) != 0) {
+
+            searchRequest.setTravelDate(FIRST_TRAVEL_DATE.plusDays(6).toString());
+        }
+
+        pageRequest = PageRequest.of(0, 25, Sort.by(Sort.Direction.ASC, "travelDate"));
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        context.close();
+    }
+
+    @Benchmark
+    public Page<TicketEntity> querydslPredicate() {
+
+        return transactionTemplate.execute(status ->
+                ticketRepository.findAll(predicateBuilder.buildSearchPredicate(searchRequest), pageRequest));
+    }
+
+    @Benchmark
+    public Page<TicketEntity> namedQueryShape() {
+
+        return transactionTemplate.execute(status -> ticketRepository.search(
+                searchRequest.getCustomerId() == null ? null : Integer.valueOf(searchRequest.getCustomerId()),
+                searchRequest.getPackageId() == null ? null : Integer.valueOf(searchRequest.getPackageId()),
+                searchRequest.getEmail(), searchRequest.parsedTravelDate(), pageRequest));
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.tourism.travels.validation;
+
+import jakarta.validation.ConstraintValidatorContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"valid", "malformed"})
+    private String input;
+
+    private final DateFormatValidator dateFormatValidator = new DateFormatValidator();
+    private final PresentOrFutureDateValidator presentOrFutureDateValidator = new PresentOrFutureDateValidator();
+    private final NotEmptyIfPresentValidator notEmptyIfPresentValidator = new NotEmptyIfPresentValidator();
+
+    private final ConstraintValidatorContext constraintValidatorContext =
+            noOp(ConstraintValidatorContext.class);
+
+    private String date;
+    private String string;
+
+    @Setup
+    public void setup() {
+
+        var valid = input.equals("valid");
+
+        date = valid ? LocalDate.now().plusDays(30).toString() : "2030-13-45";
+        string = valid ? "sai@gmail.com" : "   ";
+    }
+
+    @Benchmark
+    public boolean dateFormat() {
+
+        return dateFormatValidator.isValid(date, constraintValidatorContext);
+    }
+
+    @Benchmark
+    public boolean presentOrFutureDate() {
+
+        return presentOrFutureDateValidator.isValid(date, constraintValidatorContext);
+    }
+
+    @Benchmark
+    public boolean notEmptyIfPresent() {
+
+        return notEmptyIfPresentValidator.isValid(string, constraintValidatorContext);
+    }
+
+    /**
+     * Hibernate Validator's context is not meant to be built by hand, so the benchmarks use a context whose
+     * builder methods just chain, keeping the measurement on the validator itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T noOp(Class<T> type) {
+
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+                method.getReturnType().isInterface() ? noOp(method.getReturnType()) : null);
+    }
+
+}
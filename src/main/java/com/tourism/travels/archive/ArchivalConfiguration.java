@@ -0,0 +1,43 @@
+package com.tourism.travels.archive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Configuration
+@EnableConfigurationProperties(ArchivalProperties.class)
+@ConditionalOnProperty(name = "travels.archival.enabled", havingValue = "true")
+public class ArchivalConfiguration {
+
+    @Bean
+    public TicketArchiver ticketArchiver(JdbcTemplate jdbcTemplate, ArchivalProperties archivalProperties) {
+
+        return new TicketArchiver(jdbcTemplate, Clock.systemDefaultZone(), archivalProperties);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService ticketArchivalScheduler(ArchivalProperties archivalProperties,
+                                                            TicketArchiver ticketArchiver) {
+
+        var threadFactory = new CustomizableThreadFactory("ticket-archival-");
+        threadFactory.setDaemon(true);
+
+        var interval = archivalProperties.getInterval().toMillis();
+
+        // The first run waits one interval, so that archiving does not compete with start-up and warm-up.
+        var scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(ticketArchiver::run, interval, interval, MILLISECONDS);
+
+        return scheduler;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.tourism.travels.archive;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.time.Period;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.archival")
+public class ArchivalProperties {
+
+    private boolean enabled;
+
+    private Period horizon = Period.ofYears(1);
+
+    private int batchSize = 500;
+
+    private Duration pause = Duration.ofMillis(200);
+
+    private Duration interval = Duration.ofHours(1);
+
+}
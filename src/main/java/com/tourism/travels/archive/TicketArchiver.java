@@ -0,0 +1,184 @@
+package com.tourism.travels.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.Collections;
+
+/**
+ * Moves tickets whose travel date lies more than the horizon in the past from ticket to ticket_history. Each batch
+ * is copied and deleted in a transaction of its own, and the archiver pauses between batches, so row locks are held
+ * for one batch at a time and the search path keeps its share of the database.
+ * <p>
+ * Batches are read in travel date order off the index that leads with travel_date, from the last travel date moved.
+ * Starting each batch there and not at the oldest date skips over the rows just deleted, which the index still holds
+ * until they are purged.
+ * <p>
+ * Every instance schedules the archiver, but on MySQL a run holds the named lock {@value #LOCK} on its connection
+ * throughout, and a run that cannot take it at once does nothing. The batches run on that same connection, so only
+ * one instance archives at a time.
+ */
+@Slf4j
+public class TicketArchiver {
+
+    static final String LOCK = "travels.ticket-archiver";
+
+    private static final String COLUMNS = "ticket_id, customer_id, package_id, travel_date, total_members, "
+            + "customer_first_name, cost_per_person, total_cost";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final Period horizon;
+    private final int batchSize;
+    private final Duration pause;
+
+    public TicketArchiver(JdbcTemplate jdbcTemplate, Clock clock, ArchivalProperties archivalProperties) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+
+        horizon = archivalProperties.getHorizon();
+        batchSize = archivalProperties.getBatchSize();
+        pause = archivalProperties.getPause();
+    }
+
+    /**
+     * Archives every ticket past the horizon, batch by batch.
+     *
+     * @return the number of tickets archived
+     */
+    public int run() {
+
+        try {
+
+            // GET_LOCK belongs to the session, so the lock, the batches and the release share one connection.
+            return jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+
+                var session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+
+                return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())
+                        ? runLocked(session)
+                        : archive(session);
+            });
+        }
+        catch (RuntimeException e) {
+
+            log.error("Failed to start ticket archival; retrying at the next run", e);
+
+            return 0;
+        }
+    }
+
+    private int runLocked(JdbcTemplate session) {
+
+        var locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK);
+
+        if (locked == null || locked != 1) {
+
+            log.info("Another instance is archiving tickets; skipping this run");
+            return 0;
+        }
+
+        try {
+
+            return archive(session);
+        }
+        finally {
+
+            session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK);
+        }
+    }
+
+    private int archive(JdbcTemplate session) {
+
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(session.getDataSource()));
+        var cutoff = LocalDate.now(clock).minus(horizon);
+        LocalDate from = null;
+        var archived = 0;
+
+        try {
+
+            while (true) {
+
+                var batch = archiveBatch(session, transactionTemplate, from, cutoff);
+
+                archived += batch.size();
+
+                if (batch.size() < batchSize) {
+
+                    break;
+                }
+
+                from = batch.travelDate();
+
+                Thread.sleep(pause.toMillis());
+            }
+        }
+        catch (InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        }
+        catch (RuntimeException e) {
+
+            log.error("Ticket archival failed after {} tickets; retrying at the next run", archived, e);
+        }
+
+        if (archived > 0) {
+
+            log.info("Archived {} tickets with travel dates before {}", archived, cutoff);
+        }
+
+        return archived;
+    }
+
+    private Batch archiveBatch(JdbcTemplate session, TransactionTemplate transactionTemplate, LocalDate from,
+                               LocalDate cutoff) {
+
+        return transactionTemplate.execute(status -> {
+
+            var rows = from == null
+                    ? session.query("SELECT ticket_id, travel_date FROM ticket WHERE travel_date < ? "
+                    + "ORDER BY travel_date LIMIT ?", Row.MAPPER, cutoff, batchSize)
+                    : session.query("SELECT ticket_id, travel_date FROM ticket WHERE travel_date >= ? "
+                    + "AND travel_date < ? ORDER BY travel_date LIMIT ?", Row.MAPPER, from, cutoff, batchSize);
+
+            if (rows.isEmpty()) {
+
+                return new Batch(0, from);
+            }
+
+            var ticketIds = rows.stream()
+                    .map(Row::ticketId)
+                    .toArray();
+
+            var in = " WHERE ticket_id IN (" + String.join(", ", Collections.nCopies(ticketIds.length, "?")) + ")";
+
+            session.update("INSERT INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket"
+                    + in, ticketIds);
+            session.update("DELETE FROM ticket" + in, ticketIds);
+
+            return new Batch(rows.size(), rows.get(rows.size() - 1).travelDate());
+        });
+    }
+
+    private record Row(int ticketId, LocalDate travelDate) {
+
+        static final RowMapper<Row> MAPPER = (resultSet, rowNumber) ->
+                new Row(resultSet.getInt(1), resultSet.getObject(2, LocalDate.class));
+
+    }
+
+    private record Batch(int size, LocalDate travelDate) {
+
+    }
+
+}
@@ -1,12 +1,16 @@
 package com.tourism.travels.customer;
 
+import com.tourism.travels.pojo.BatchRequest;
+import com.tourism.travels.pojo.BatchResource;
 import com.tourism.travels.pojo.CustomerRequest;
 import com.tourism.travels.pojo.CustomerResource;
+import com.tourism.travels.sql.CustomerEntity;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
@@ -34,6 +38,18 @@ public class CustomerController {
         return travelMapper.toCustomerResource(customerEntity);
     }
 
+    @PostMapping("/batch")
+    public BatchResource<CustomerResource> getCustomersByIds(@Valid @RequestBody BatchRequest batchRequest) {
+
+        var customerEntities = customerService.getCustomerEntitiesByIds(batchRequest.getIds());
+
+        var foundIds = customerEntities.stream()
+                .map(CustomerEntity::getCustomerId)
+                .collect(Collectors.toSet());
+
+        return BatchResource.of(travelMapper.toCustomerResources(customerEntities), batchRequest.getIds(), foundIds);
+    }
+
     @PutMapping("/signup")
     public CustomerRequest signUpCustomer(@Valid @RequestBody CustomerRequest customerRequest) {
 
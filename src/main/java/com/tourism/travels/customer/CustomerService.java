@@ -2,12 +2,19 @@ package com.tourism.travels.customer;
 
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.loader.BatchLoader;
+import com.tourism.travels.loader.SingleFlight;
 import com.tourism.travels.sql.CustomerEntity;
 import com.tourism.travels.sql.CustomerRepository;
+import com.tourism.travels.sql.TicketRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,7 +22,11 @@ public class CustomerService {
 
     private final TravelMapper travelMapper;
     private final CustomerRepository customerRepository;
+    private final TicketRepository ticketRepository;
+    private final BatchLoader<Integer, CustomerEntity> customerBatchLoader;
+    private final SingleFlight<Integer, Optional<CustomerEntity>> customerSingleFlight;
 
+    @Transactional(readOnly = true)
     public List<CustomerEntity> getCustomerDetails() {
 
         return customerRepository.findAll();
@@ -23,8 +34,14 @@ public class CustomerService {
 
     public CustomerEntity getCustomerEntityById(int customerId) {
 
-        return customerRepository.findById(customerId)
-                .orElseThrow(NotFoundException::new);
+        return customerSingleFlight.execute(customerId, () -> customerBatchLoader.get(customerId))
+                .orElseThrow(NotFoundException::instance);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CustomerEntity> getCustomerEntitiesByIds(Collection<Integer> customerIds) {
+
+        return customerRepository.findAllById(customerIds);
     }
 
     public CustomerEntity signUp(CustomerEntity newCustomerEntity) {
@@ -38,22 +55,32 @@ public class CustomerService {
         return customerRepository.save(newCustomerEntity);
     }
 
+    @Transactional
     public CustomerEntity updateCustomer(CustomerEntity customerEntityWithUpdates) {
 
         var customerId = customerEntityWithUpdates.getCustomerId();
 
         var customerEntity = customerRepository.findById(customerId)
-                .orElseThrow(NotFoundException::new);
+                .orElseThrow(NotFoundException::instance);
+
+        var previousFirstName = customerEntity.getFirstName();
 
         travelMapper.updateCustomerEntity(customerEntity, customerEntityWithUpdates);
 
-        return customerRepository.save(customerEntityWithUpdates);
+        var savedCustomerEntity = customerRepository.save(customerEntityWithUpdates);
+
+        if (!Objects.equals(previousFirstName, customerEntityWithUpdates.getFirstName())) {
+
+            ticketRepository.updateCustomerFirstName(customerId, customerEntityWithUpdates.getFirstName());
+        }
+
+        return savedCustomerEntity;
     }
 
     public void deleteByCustomerId(int customerId) {
 
         customerRepository.findById(customerId)
-                .orElseThrow(NotFoundException::new);
+                .orElseThrow(NotFoundException::instance);
 
         customerRepository.deleteById(customerId);
     }
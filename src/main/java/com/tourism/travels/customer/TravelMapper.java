@@ -1,33 +1,43 @@
 
 package com.tourism.travels.customer;
 
+import com.tourism.travels.itinerary.Itinerary;
 import com.tourism.travels.pojo.*;
 import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
 import com.tourism.travels.sql.CustomerEntity;
 import com.tourism.travels.sql.PackageEntity;
 import com.tourism.travels.sql.TicketEntity;
-import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
+import java.util.List;
+
 @Mapper(componentModel="spring")
 public interface TravelMapper {
 
     @Mapping(target = "totalCost", source = "costPerPerson")
     PackageResource toPackageResource(PackageEntity entity);
 
+    List<PackageResource> toPackageResources(List<PackageEntity> entities);
+
     CustomerResource toCustomerResource(CustomerEntity entity);
 
+    List<CustomerResource> toCustomerResources(List<CustomerEntity> entities);
+
     @Mapping(target = "packageEntity", ignore = true)
     @Mapping(target = "customerEntity", ignore = true)
+    @Mapping(target = "customerFirstName", ignore = true)
+    @Mapping(target = "costPerPerson", ignore = true)
+    @Mapping(target = "totalCost", ignore = true)
     TicketEntity toTicketEntity(TicketRequest ticketRequest);
 
     TicketRequest toTicketRequest(TicketEntity ticketEntity);
 
-    @Mapping(target = "totalCost", ignore = true)
     TicketResource toTicketResource(TicketEntity ticketEntity);
 
+    List<TicketResource> toTicketResources(List<TicketEntity> ticketEntities);
+
     PackageEntity toPackageEntity(PackageRequest packageRequest);
 
     PackageRequest toPackageRequest(PackageEntity packageEntity);
@@ -37,6 +47,8 @@ public interface TravelMapper {
     CustomerRequest toCustomerRequest(CustomerEntity customerEntity);
 
     @Mapping(target = "ticketId", ignore = true)
+    @Mapping(target = "costPerPerson", ignore = true)
+    @Mapping(target = "totalCost", ignore = true)
     void updateTicketEntity(@MappingTarget TicketEntity ticketEntity, TicketEntity ticketEntityWithUpdates);
 
     @Mapping(target = "packageId", ignore = true)
@@ -45,7 +57,12 @@ public interface TravelMapper {
     @Mapping(target = "customerId", ignore = true)
     void updateCustomerEntity(@MappingTarget CustomerEntity customerEntity, CustomerEntity customerEntityWithUpdates);
 
-    @Mapping(target = "totalCostOfTrip", ignore = true)
+    @Mapping(target = "customer", source = "customerEntity")
+    @Mapping(target = "tickets", source = "ticketEntities")
+    @Mapping(target = "packages", source = "packageEntities")
+    ItineraryResource toItineraryResource(Itinerary itinerary);
+
+    @Mapping(target = "totalCostOfTrip", source = "totalCost")
     @Mapping(target = "firstName", source = "ticketEntity.customerEntity.firstName")
     @Mapping(target = "lastName", source = "ticketEntity.customerEntity.lastName")
     @Mapping(target = "email", source = "ticketEntity.customerEntity.email")
@@ -53,28 +70,4 @@ public interface TravelMapper {
     @Mapping(target = "tripDuration", source = "ticketEntity.packageEntity.tripDuration")
     TicketDetail mapTicketDetails(TicketEntity ticketEntity);
 
-    @AfterMapping
-    default void setTotalCostInTicketResource(@MappingTarget TicketResource ticketResource, TicketEntity ticketEntity) {
-
-        var totalCost = getCostOfTrip(ticketEntity);
-
-        ticketResource.setTotalCost(totalCost);
-    }
-
-    @AfterMapping
-    default void setTotalCostForSearchResource(@MappingTarget TicketDetail ticketDetail, TicketEntity ticketEntity) {
-
-        var totalCostOfTrip = getCostOfTrip(ticketEntity);
-
-        ticketDetail.setTotalCostOfTrip(totalCostOfTrip);
-    }
-
-    private int getCostOfTrip(TicketEntity ticketEntity) {
-
-        var totalMembers = ticketEntity.getTotalMembers();
-        var costPerPerson = ticketEntity.getPackageEntity().getCostPerPerson();
-
-        return totalMembers * costPerPerson;
-    }
-
 }
@@ -0,0 +1,51 @@
+package com.tourism.travels.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.tourism.travels.datasource.ReadWriteRoutingDataSource.PRIMARY;
+
+/**
+ * Finds the Hikari pools behind the application's data source, looking through the wrappers around it. With replicas
+ * configured that is one pool per routing target, primary first; otherwise the single pool. Opening a connection on
+ * the data source itself reaches none of them: the lazy proxy in front of the routing data source hands out a handle
+ * that only takes a pooled connection once a statement runs, and it only takes it from one target.
+ */
+public final class ConnectionPools {
+
+    private ConnectionPools() {
+    }
+
+    public static List<HikariDataSource> of(DataSource dataSource) {
+
+        try {
+
+            if (dataSource.isWrapperFor(AbstractRoutingDataSource.class)) {
+
+                var targets = dataSource.unwrap(AbstractRoutingDataSource.class).getResolvedDataSources();
+
+                return targets.entrySet().stream()
+                        .sorted(Comparator.comparing(target -> !PRIMARY.equals(target.getKey())))
+                        .flatMap(target -> of(target.getValue()).stream())
+                        .toList();
+            }
+
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+
+                return List.of(dataSource.unwrap(HikariDataSource.class));
+            }
+        }
+        catch (SQLException exception) {
+
+            return List.of();
+        }
+
+        return List.of();
+    }
+
+}
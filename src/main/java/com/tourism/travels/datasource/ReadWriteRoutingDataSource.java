@@ -0,0 +1,70 @@
+package com.tourism.travels.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.function.BiFunction;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaSet replicaSet;
+    private final ReadYourWrites readYourWrites;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWrites readYourWrites) {
+
+        this.replicaSet = replicaSet;
+        this.readYourWrites = readYourWrites;
+
+        var targetDataSources = new HashMap<Object, Object>();
+        targetDataSources.put(PRIMARY, primary);
+        replicaSet.getReplicas().forEach(replica -> targetDataSources.put(replica.getName(), replica.getDataSource()));
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Wraps each target, given its lookup key, e.g. to guard every pool with a limit of its own. Connections are
+     * then taken through the wrappers; the replica health checks keep using the replicas' pools directly.
+     */
+    public void decorateTargets(BiFunction<String, DataSource, DataSource> decorator) {
+
+        var targetDataSources = new HashMap<Object, Object>();
+        getResolvedDataSources().forEach((key, target) ->
+                targetDataSources.put(key, decorator.apply((String) key, target)));
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(targetDataSources.get(PRIMARY));
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+
+                readYourWrites.recordWrite();
+            }
+
+            return PRIMARY;
+        }
+
+        if (readYourWrites.isPinnedToPrimary()) {
+
+            return PRIMARY;
+        }
+
+        return replicaSet.nextHealthyReplica()
+                .map(Replica::getName)
+                .orElse(PRIMARY);
+    }
+
+}
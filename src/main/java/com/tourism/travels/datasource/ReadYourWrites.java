@@ -0,0 +1,101 @@
+package com.tourism.travels.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> CLIENT_KEY = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final Map<String, Long> primaryPins = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window) {
+
+        this.windowNanos = window.toNanos();
+    }
+
+    public void bind(String clientKey) {
+
+        CLIENT_KEY.set(clientKey);
+    }
+
+    public void clear() {
+
+        CLIENT_KEY.remove();
+    }
+
+    /**
+     * Wraps a task handed to another thread so that its reads are routed for the submitting client.
+     */
+    public Runnable propagate(Runnable task) {
+
+        var clientKey = CLIENT_KEY.get();
+
+        return () -> {
+            var previous = CLIENT_KEY.get();
+            CLIENT_KEY.set(clientKey);
+
+            try {
+
+                task.run();
+            }
+            finally {
+
+                if (previous == null) {
+
+                    CLIENT_KEY.remove();
+                }
+                else {
+
+                    CLIENT_KEY.set(previous);
+                }
+            }
+        };
+    }
+
+    public void recordWrite() {
+
+        var clientKey = CLIENT_KEY.get();
+
+        if (clientKey != null && windowNanos > 0) {
+
+            primaryPins.put(clientKey, System.nanoTime() + windowNanos);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+
+        var clientKey = CLIENT_KEY.get();
+
+        if (clientKey == null) {
+
+            return false;
+        }
+
+        var pinnedUntil = primaryPins.get(clientKey);
+
+        if (pinnedUntil == null) {
+
+            return false;
+        }
+
+        if (System.nanoTime() - pinnedUntil > 0) {
+
+            primaryPins.remove(clientKey, pinnedUntil);
+
+            return false;
+        }
+
+        return true;
+    }
+
+    public void evictExpiredPins() {
+
+        var now = System.nanoTime();
+
+        primaryPins.values().removeIf(pinnedUntil -> now - pinnedUntil > 0);
+    }
+
+}
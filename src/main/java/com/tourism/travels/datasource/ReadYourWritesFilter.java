@@ -0,0 +1,35 @@
+package com.tourism.travels.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String clientKeyHeader;
+    private final ReadYourWrites readYourWrites;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        readYourWrites.bind(request.getHeader(clientKeyHeader));
+
+        try {
+
+            filterChain.doFilter(request, response);
+        }
+        finally {
+
+            readYourWrites.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.tourism.travels.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+import javax.sql.DataSource;
+
+@Getter
+@RequiredArgsConstructor
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    @Setter
+    private volatile boolean healthy = true;
+
+}
@@ -0,0 +1,89 @@
+package com.tourism.travels.datasource;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+public class ReplicaSet {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    @Getter
+    private final List<Replica> replicas;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaSet(List<Replica> replicas) {
+
+        this.replicas = List.copyOf(replicas);
+    }
+
+    public Optional<Replica> nextHealthyReplica() {
+
+        var replicaCount = replicas.size();
+        var start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(replicaCount, 1));
+
+        for (var i = 0; i < replicaCount; i++) {
+
+            var replica = replicas.get((start + i) % replicaCount);
+
+            if (replica.isHealthy()) {
+
+                return Optional.of(replica);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    public void checkHealth() {
+
+        replicas.forEach(this::checkHealth);
+    }
+
+    public void close() {
+
+        replicas.stream()
+                .map(Replica::getDataSource)
+                .filter(AutoCloseable.class::isInstance)
+                .map(AutoCloseable.class::cast)
+                .forEach(ReplicaSet::closeQuietly);
+    }
+
+    private void checkHealth(Replica replica) {
+
+        var wasHealthy = replica.isHealthy();
+
+        try (var connection = replica.getDataSource().getConnection()) {
+
+            replica.setHealthy(connection.isValid(VALIDATION_TIMEOUT_SECONDS));
+        }
+        catch (SQLException exception) {
+
+            replica.setHealthy(false);
+        }
+
+        if (wasHealthy != replica.isHealthy()) {
+
+            log.warn("Replica {} is now {}", replica.getName(), replica.isHealthy() ? "healthy" : "unhealthy");
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable dataSource) {
+
+        try {
+
+            dataSource.close();
+        }
+        catch (Exception exception) {
+
+            log.warn("Failed to close replica pool", exception);
+        }
+    }
+
+}
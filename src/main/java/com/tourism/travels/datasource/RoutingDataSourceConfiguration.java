@@ -0,0 +1,119 @@
+package com.tourism.travels.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Configuration
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "travels.datasource", name = "replicas[0].url")
+public class RoutingDataSourceConfiguration {
+
+    @Bean
+    public ReadYourWrites readYourWrites(RoutingDataSourceProperties routingDataSourceProperties) {
+
+        return new ReadYourWrites(routingDataSourceProperties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(RoutingDataSourceProperties routingDataSourceProperties,
+                                                     ReadYourWrites readYourWrites) {
+
+        return new ReadYourWritesFilter(routingDataSourceProperties.getReadYourWritesHeader(), readYourWrites);
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(RoutingDataSourceProperties routingDataSourceProperties, MeterRegistry meterRegistry) {
+
+        var replicas = new ArrayList<Replica>();
+
+        for (var replicaProperties : routingDataSourceProperties.getReplicas()) {
+
+            var name = "replica-" + replicas.size();
+
+            var dataSource = new HikariDataSource();
+            dataSource.setPoolName(name);
+            dataSource.setJdbcUrl(replicaProperties.getUrl());
+            dataSource.setUsername(replicaProperties.getUsername());
+            dataSource.setPassword(replicaProperties.getPassword());
+            dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            dataSource.setReadOnly(true);
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+            var replica = new Replica(name, dataSource);
+
+            Gauge.builder("travels.datasource.replica.healthy", replica, x -> x.isHealthy() ? 1 : 0)
+                    .tag("pool", name)
+                    .register(meterRegistry);
+
+            replicas.add(replica);
+        }
+
+        return new ReplicaSet(replicas);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService replicaHealthChecker(RoutingDataSourceProperties routingDataSourceProperties,
+                                                         ReplicaSet replicaSet, ReadYourWrites readYourWrites) {
+
+        var threadFactory = new CustomizableThreadFactory("replica-health-");
+        threadFactory.setDaemon(true);
+
+        var interval = routingDataSourceProperties.getHealthCheckInterval().toMillis();
+
+        var healthChecker = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        healthChecker.scheduleWithFixedDelay(() -> {
+            replicaSet.checkHealth();
+            readYourWrites.evictExpiredPins();
+        }, interval, interval, MILLISECONDS);
+
+        return healthChecker;
+    }
+
+    @Bean(autowireCandidate = false)
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                              MeterRegistry meterRegistry) {
+
+        var primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return primary;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                 MeterRegistry meterRegistry, ReplicaSet replicaSet, ReadYourWrites readYourWrites) {
+
+        var primary = primaryDataSource(dataSourceProperties, environment, meterRegistry);
+        var routingDataSource = new ReadWriteRoutingDataSource(primary, replicaSet, readYourWrites);
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.tourism.travels.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.datasource")
+public class RoutingDataSourceProperties {
+
+    private List<ReplicaProperties> replicas = new ArrayList<>();
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    private String readYourWritesHeader = "X-Customer-Id";
+
+    @Getter
+    @Setter
+    public static class ReplicaProperties {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        private int maximumPoolSize = 10;
+
+    }
+
+}
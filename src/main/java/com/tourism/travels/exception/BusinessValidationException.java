@@ -1,12 +1,16 @@
 package com.tourism.travels.exception;
 
-import lombok.NoArgsConstructor;
-
-@NoArgsConstructor
+/**
+ * Carries no stack trace, so exceptions with a constant message can be created once and rethrown.
+ */
 public class BusinessValidationException extends RuntimeException {
 
+    public BusinessValidationException() {
+        this(null);
+    }
+
     public BusinessValidationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +21,9 @@ import java.util.stream.Collectors;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final byte[] NOT_FOUND_BODY = "{\"message\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ALREADY_EXISTS_BODY =
+            "{\"message\":\"already exists\"}".getBytes(StandardCharsets.UTF_8);
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<List<Error>> methodArgumentNotValidException(MethodArgumentNotValidException e) {
@@ -33,11 +38,14 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler
-    public ResponseEntity<Error> alreadyExistsException(BusinessValidationException e) {
+    public ResponseEntity<?> alreadyExistsException(BusinessValidationException e) {
 
-        var exceptionMessage = e.getMessage();
+        var message = e.getMessage();
 
-        var message = exceptionMessage == null ? "already exists" : exceptionMessage;
+        if (message == null) {
+
+            return preEncoded(HttpStatus.BAD_REQUEST, ALREADY_EXISTS_BODY);
+        }
 
         var error = new Error(null, message);
 
@@ -45,11 +53,9 @@ public class GlobalExceptionHandler {
     }
 
     @ExceptionHandler
-    public ResponseEntity<Error> notFoundException(NotFoundException e) {
-
-        var error = new Error(null, "not found");
+    public ResponseEntity<byte[]> notFoundException(NotFoundException e) {
 
-        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+        return preEncoded(HttpStatus.NOT_FOUND, NOT_FOUND_BODY);
     }
 
     @ExceptionHandler
@@ -99,6 +105,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * A constant, pre-encoded error body. The byte array converter copies it out as is, so Jackson never runs, while
+     * response body advice such as the DB debug headers still applies.
+     */
+    private static ResponseEntity<byte[]> preEncoded(HttpStatus status, byte[] body) {
+
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     record Error (
             @JsonInclude(JsonInclude.Include.NON_NULL)
             String field,
@@ -1,4 +1,20 @@
 package com.tourism.travels.exception;
 
+/**
+ * Carries no stack trace: it is an expected outcome of a lookup, and under scraping traffic most requests end
+ * here. Throw {@link #instance()} rather than allocating a new one.
+ */
 public class NotFoundException extends RuntimeException {
+
+    private static final NotFoundException INSTANCE = new NotFoundException();
+
+    public NotFoundException() {
+        super(null, null, false, false);
+    }
+
+    public static NotFoundException instance() {
+
+        return INSTANCE;
+    }
+
 }
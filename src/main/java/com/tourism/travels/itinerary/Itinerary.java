@@ -0,0 +1,13 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.sql.CustomerEntity;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.TicketEntity;
+
+import java.util.List;
+
+public record Itinerary(CustomerEntity customerEntity,
+                        List<TicketEntity> ticketEntities,
+                        List<PackageEntity> packageEntities) {
+
+}
@@ -0,0 +1,34 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.datasource.ReadYourWrites;
+import com.tourism.travels.jdbc.DbRequestStats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableConfigurationProperties(ItineraryProperties.class)
+public class ItineraryConfiguration {
+
+    @Bean
+    public ThreadPoolTaskExecutor itineraryExecutor(ItineraryProperties itineraryProperties,
+                                                    ObjectProvider<ReadYourWrites> readYourWrites) {
+
+        var pins = readYourWrites.getIfAvailable();
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("itinerary-");
+        executor.setCorePoolSize(itineraryProperties.getPoolSize());
+        executor.setMaxPoolSize(itineraryProperties.getPoolSize());
+        executor.setQueueCapacity(itineraryProperties.getQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(task -> DbRequestStats.propagate(pins == null ? task : pins.propagate(task)));
+
+        return executor;
+    }
+
+}
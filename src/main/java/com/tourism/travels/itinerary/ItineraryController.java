@@ -0,0 +1,27 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.customer.TravelMapper;
+import com.tourism.travels.pojo.ItineraryResource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/customers")
+public class ItineraryController {
+
+    private final TravelMapper travelMapper;
+    private final ItineraryService itineraryService;
+
+    @GetMapping("/{customerId}/itinerary")
+    public ItineraryResource getItinerary(@PathVariable String customerId) {
+
+        var itinerary = itineraryService.getItinerary(Integer.parseInt(customerId));
+
+        return travelMapper.toItineraryResource(itinerary);
+    }
+
+}
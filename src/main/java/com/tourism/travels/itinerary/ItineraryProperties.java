@@ -0,0 +1,16 @@
+package com.tourism.travels.itinerary;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.itinerary")
+public class ItineraryProperties {
+
+    private int poolSize = 16;
+
+    private int queueCapacity = 200;
+
+}
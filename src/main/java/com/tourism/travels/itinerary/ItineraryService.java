@@ -0,0 +1,67 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.customer.CustomerService;
+import com.tourism.travels.packages.PackageService;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.ticket.TicketService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+@Service
+@RequiredArgsConstructor
+public class ItineraryService {
+
+    private final CustomerService customerService;
+    private final TicketService ticketService;
+    private final PackageService packageService;
+    private final Executor itineraryExecutor;
+
+    public Itinerary getItinerary(int customerId) {
+
+        var customerEntity = CompletableFuture.supplyAsync(
+                () -> customerService.getCustomerEntityById(customerId), itineraryExecutor);
+
+        var ticketEntities = CompletableFuture.supplyAsync(
+                () -> ticketService.getTicketEntitiesByCustomerId(customerId), itineraryExecutor);
+
+        var packageEntities = ticketEntities.thenApply(this::getPackageEntities);
+
+        try {
+
+            return new Itinerary(customerEntity.join(), ticketEntities.join(), packageEntities.join());
+        }
+        catch (CompletionException exception) {
+
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+
+                throw runtimeException;
+            }
+
+            throw exception;
+        }
+
+    }
+
+    private List<PackageEntity> getPackageEntities(List<TicketEntity> ticketEntities) {
+
+        if (ticketEntities.isEmpty()) {
+
+            return Collections.emptyList();
+        }
+
+        var packageIds = ticketEntities.stream()
+                .map(TicketEntity::getPackageId)
+                .distinct()
+                .toList();
+
+        return packageService.getPackageEntitiesByIds(packageIds);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.tourism.travels.jdbc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Statements, rows and JDBC time of one request. The request thread binds them; work it hands to other threads
+ * has to carry them over with {@link #propagate(Runnable)} or {@link #callSharedBy(Collection, Supplier)}, or its
+ * statements go unrecorded and escape the statement budget.
+ */
+@Getter
+public class DbRequestStats {
+
+    private static final ThreadLocal<DbRequestStats> CURRENT = new ThreadLocal<>();
+
+    private final String handler;
+    private final int statementLimit;
+
+    @Getter(AccessLevel.NONE)
+    private final StatementBudget statementBudget;
+
+    @Getter(AccessLevel.NONE)
+    private final List<DbRequestStats> sharers;
+
+    private int statements;
+    private long rowsFetched;
+    private long jdbcNanos;
+
+    private DbRequestStats(String handler, int statementLimit, StatementBudget statementBudget,
+                           List<DbRequestStats> sharers) {
+
+        this.handler = handler;
+        this.statementLimit = statementLimit;
+        this.statementBudget = statementBudget;
+        this.sharers = sharers;
+    }
+
+    public static DbRequestStats start(String handler) {
+
+        return start(handler, Integer.MAX_VALUE, null);
+    }
+
+    public static DbRequestStats start(String handler, int statementLimit, StatementBudget statementBudget) {
+
+        var dbRequestStats = new DbRequestStats(handler, statementLimit, statementBudget, List.of());
+        CURRENT.set(dbRequestStats);
+
+        return dbRequestStats;
+    }
+
+    public static DbRequestStats current() {
+
+        return CURRENT.get();
+    }
+
+    public static void end() {
+
+        CURRENT.remove();
+    }
+
+    /**
+     * Wraps a task handed to another thread so that its statements count against the submitting request.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        var dbRequestStats = CURRENT.get();
+
+        if (dbRequestStats == null) {
+
+            return task;
+        }
+
+        return () -> callAs(dbRequestStats, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs one piece of work on behalf of several requests, e.g. a batched lookup, charging each of them with every
+     * statement it issues.
+     */
+    public static <T> T callSharedBy(Collection<DbRequestStats> dbRequestStats, Supplier<T> task) {
+
+        if (dbRequestStats.isEmpty()) {
+
+            return task.get();
+        }
+
+        return callAs(new DbRequestStats("shared", Integer.MAX_VALUE, null, List.copyOf(dbRequestStats)), task);
+    }
+
+    private static <T> T callAs(DbRequestStats dbRequestStats, Supplier<T> task) {
+
+        var previous = CURRENT.get();
+        CURRENT.set(dbRequestStats);
+
+        try {
+
+            return task.get();
+        }
+        finally {
+
+            if (previous == null) {
+
+                CURRENT.remove();
+            }
+            else {
+
+                CURRENT.set(previous);
+            }
+        }
+
+    }
+
+    synchronized void checkBudget(String sql) {
+
+        sharers.forEach(sharer -> sharer.checkBudget(sql));
+
+        if (statementBudget != null && statements >= statementLimit) {
+
+            statementBudget.breached(this, sql);
+        }
+    }
+
+    synchronized void recordStatement(String sql, long nanos) {
+
+        sharers.forEach(sharer -> sharer.recordStatement(sql, nanos));
+
+        statements++;
+        jdbcNanos += nanos;
+    }
+
+    synchronized void recordRow() {
+
+        sharers.forEach(DbRequestStats::recordRow);
+
+        rowsFetched++;
+    }
+
+}
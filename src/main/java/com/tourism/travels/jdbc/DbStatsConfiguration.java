@@ -0,0 +1,67 @@
+package com.tourism.travels.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties({DbStatsProperties.class, StatementBudgetProperties.class})
+public class DbStatsConfiguration implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetProperties statementBudgetProperties;
+    private final DbStatsProperties dbStatsProperties;
+
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+
+        return new InstrumentedDataSourcePostProcessor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        var statementBudget = new StatementBudget(statementBudgetProperties, meterRegistry);
+
+        registry.addInterceptor(new DbStatsInterceptor(meterRegistry, statementBudget,
+                dbStatsProperties.isDebugHeaders()));
+    }
+
+    /**
+     * Wraps the {@code dataSource} bean last, {@link #ORDER} being the lowest precedence, so that the statement
+     * counting sees every connection whatever other wrappers, such as the virtual-thread permits, sit inside it.
+     */
+    public static class InstrumentedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        public static final int ORDER = Ordered.LOWEST_PRECEDENCE;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+            if (bean instanceof DataSource dataSource && beanName.equals("dataSource")
+                    && !(bean instanceof InstrumentedDataSource)) {
+
+                return new InstrumentedDataSource(dataSource);
+            }
+
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+
+            return ORDER;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.tourism.travels.jdbc;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "travels.db-stats", name = "debug-headers", havingValue = "true")
+public class DbStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+
+        var dbRequestStats = DbRequestStats.current();
+
+        if (dbRequestStats != null) {
+
+            var headers = response.getHeaders();
+            headers.set("X-DB-Statements", String.valueOf(dbRequestStats.getStatements()));
+            headers.set("X-DB-Time", NANOSECONDS.toMicros(dbRequestStats.getJdbcNanos()) / 1000.0 + "ms");
+        }
+
+        return body;
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.tourism.travels.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@RequiredArgsConstructor
+public class DbStatsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudget statementBudget;
+    private final boolean debugHeaders;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+
+            var handlerName = handlerName(handlerMethod);
+
+            DbRequestStats.start(handlerName, statementBudget.limitFor(handlerName), statementBudget);
+        }
+
+        return true;
+    }
+
+    /**
+     * A response with a body is committed before this runs and gets its headers from {@link DbStatsHeaderAdvice};
+     * a bodiless one, e.g. a 204, only gets them here.
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+
+        var dbRequestStats = DbRequestStats.current();
+
+        if (debugHeaders && dbRequestStats != null && !response.isCommitted()) {
+
+            response.setHeader("X-DB-Statements", String.valueOf(dbRequestStats.getStatements()));
+            response.setHeader("X-DB-Time", NANOSECONDS.toMicros(dbRequestStats.getJdbcNanos()) / 1000.0 + "ms");
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception exception) {
+
+        var dbRequestStats = DbRequestStats.current();
+
+        if (dbRequestStats == null) {
+
+            return;
+        }
+
+        DbRequestStats.end();
+
+        var handlerName = dbRequestStats.getHandler();
+
+        DistributionSummary.builder("travels.db.request.statements")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(dbRequestStats.getStatements());
+
+        DistributionSummary.builder("travels.db.request.rows")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(dbRequestStats.getRowsFetched());
+
+        Timer.builder("travels.db.request.time")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(dbRequestStats.getJdbcNanos(), NANOSECONDS);
+    }
+
+    /**
+     * A streamed response completes on an async dispatch, which starts its own stats; the request thread that
+     * started it must not keep them.
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+
+        DbRequestStats.end();
+    }
+
+    static String handlerName(HandlerMethod handlerMethod) {
+
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+}
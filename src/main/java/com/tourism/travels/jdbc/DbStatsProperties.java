@@ -0,0 +1,14 @@
+package com.tourism.travels.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.db-stats")
+public class DbStatsProperties {
+
+    private boolean debugHeaders = false;
+
+}
@@ -0,0 +1,182 @@
+package com.tourism.travels.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        return proxy(Connection.class, super.getConnection(), new ConnectionHandler());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        return proxy(Connection.class, super.getConnection(username, password), new ConnectionHandler());
+    }
+
+    private static <T> T proxy(Class<T> type, T target, JdbcHandler handler) {
+
+        handler.target = target;
+
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[] {type}, handler));
+    }
+
+    private abstract static class JdbcHandler implements InvocationHandler {
+
+        Object target;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> intercept(method, args);
+            };
+        }
+
+        abstract Object intercept(Method method, Object[] args) throws Throwable;
+
+        Object proceed(Method method, Object[] args) throws Throwable {
+
+            try {
+
+                return method.invoke(target, args);
+            }
+            catch (InvocationTargetException exception) {
+
+                throw exception.getCause();
+            }
+
+        }
+
+    }
+
+    private static class ConnectionHandler extends JdbcHandler {
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+
+            var result = proceed(method, args);
+            var sql = args != null && args.length > 0 && args[0] instanceof String string ? string : null;
+
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, (Statement) result, new StatementHandler(sql));
+                case "prepareStatement" ->
+                        proxy(PreparedStatement.class, (PreparedStatement) result, new StatementHandler(sql));
+                case "prepareCall" ->
+                        proxy(CallableStatement.class, (CallableStatement) result, new StatementHandler(sql));
+                default -> result;
+            };
+        }
+
+    }
+
+    private static class StatementHandler extends JdbcHandler {
+
+        private final String preparedSql;
+
+        StatementHandler(String preparedSql) {
+
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+
+            var methodName = method.getName();
+
+            if (methodName.startsWith("execute")) {
+
+                var sql = args != null && args.length > 0 && args[0] instanceof String string ? string : preparedSql;
+
+                return execute(sql, method, args);
+            }
+
+            var result = proceed(method, args);
+
+            if (result instanceof ResultSet resultSet && methodName.equals("getResultSet")) {
+
+                return proxy(ResultSet.class, resultSet, new ResultSetHandler());
+            }
+
+            return result;
+        }
+
+        private Object execute(String sql, Method method, Object[] args) throws Throwable {
+
+            var dbRequestStats = DbRequestStats.current();
+
+            if (dbRequestStats != null) {
+
+                dbRequestStats.checkBudget(sql);
+            }
+
+            var start = System.nanoTime();
+
+            try {
+
+                var result = proceed(method, args);
+
+                if (result instanceof ResultSet resultSet) {
+
+                    return proxy(ResultSet.class, resultSet, new ResultSetHandler());
+                }
+
+                return result;
+            }
+            finally {
+
+                if (dbRequestStats != null) {
+
+                    dbRequestStats.recordStatement(sql, System.nanoTime() - start);
+                }
+            }
+
+        }
+
+    }
+
+    private static class ResultSetHandler extends JdbcHandler {
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+
+            var result = proceed(method, args);
+
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+
+                var dbRequestStats = DbRequestStats.current();
+
+                if (dbRequestStats != null) {
+
+                    dbRequestStats.recordRow();
+                }
+            }
+
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.tourism.travels.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class StatementBudget {
+
+    private final StatementBudgetProperties statementBudgetProperties;
+    private final MeterRegistry meterRegistry;
+
+    public int limitFor(String handler) {
+
+        return statementBudgetProperties.getLimits().getOrDefault(handler, Integer.MAX_VALUE);
+    }
+
+    void breached(DbRequestStats dbRequestStats, String sql) {
+
+        var handler = dbRequestStats.getHandler();
+        var message = handler + " exceeded its budget of " + dbRequestStats.getStatementLimit()
+                + " statements with: " + sql;
+
+        Counter.builder("travels.db.statement.budget.breaches")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .increment();
+
+        // Logged in strict mode too, before failing: the call site is what makes a breach fixable.
+        log.warn(message, new Throwable("statement issued from"));
+
+        if (statementBudgetProperties.isStrict()) {
+
+            throw new StatementBudgetExceededException(message);
+        }
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.tourism.travels.jdbc;
+
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.tourism.travels.jdbc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.statement-budget")
+public class StatementBudgetProperties {
+
+    private boolean strict = false;
+
+    private Map<String, Integer> limits = new HashMap<>();
+
+}
@@ -0,0 +1,87 @@
+package com.tourism.travels.limit;
+
+/**
+ * A concurrency limit that follows latency, after the gradient limiter in Netflix's concurrency-limits. A slow
+ * moving average of round trip times stands for what the database delivers when healthy, a fast one for what it
+ * delivers now. While the two agree the limit grows by its square root. Once recent requests run slower than the
+ * baseline by more than the tolerance, it shrinks in proportion. Server errors back it off multiplicatively.
+ */
+public class AdaptiveLimit {
+
+    private static final double LONG_WINDOW_ALPHA = 2.0 / (600 + 1);
+    private static final double SHORT_WINDOW_ALPHA = 2.0 / (10 + 1);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+
+    private double estimatedLimit;
+    private double longRtt;
+    private double shortRtt;
+
+    private volatile int limit;
+
+    public AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing,
+                         double backoffRatio) {
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+
+        estimatedLimit = initialLimit;
+        limit = initialLimit;
+    }
+
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Records one completed request.
+     *
+     * @param rttNanos time the request held its permit
+     * @param inFlight requests in flight when it was admitted, including itself
+     * @param dropped  whether it failed in a way that suggests overload
+     */
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+
+        if (dropped) {
+
+            update(estimatedLimit * backoffRatio);
+
+            return;
+        }
+
+        longRtt = longRtt == 0 ? rttNanos : longRtt + (rttNanos - longRtt) * LONG_WINDOW_ALPHA;
+        shortRtt = shortRtt == 0 ? rttNanos : shortRtt + (rttNanos - shortRtt) * SHORT_WINDOW_ALPHA;
+
+        // Nothing to learn about the limit while traffic stays well below it.
+        if (inFlight < estimatedLimit / 2) {
+
+            return;
+        }
+
+        // Sustained overload drags the baseline up with it; pull it back so the limit can recover afterwards.
+        if (longRtt / shortRtt > 2) {
+
+            longRtt *= 0.95;
+        }
+
+        var gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        var newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void update(double newLimit) {
+
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.tourism.travels.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.EnumMap;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "travels.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter(ConcurrencyLimitProperties concurrencyLimitProperties,
+                                                 MeterRegistry meterRegistry) {
+
+        var adaptiveLimit = new AdaptiveLimit(concurrencyLimitProperties.getInitialLimit(),
+                concurrencyLimitProperties.getMinLimit(), concurrencyLimitProperties.getMaxLimit(),
+                concurrencyLimitProperties.getTolerance(), concurrencyLimitProperties.getSmoothing(),
+                concurrencyLimitProperties.getBackoffRatio());
+
+        var shares = new EnumMap<Priority, Double>(Priority.class);
+        concurrencyLimitProperties.getPriorities().forEach((priority, x) -> shares.put(priority, x.getShare()));
+
+        return new ConcurrencyLimiter(adaptiveLimit, shares, meterRegistry);
+    }
+
+    /**
+     * Runs right after the observation filter, so shed requests still show up in http.server.requests but cost
+     * nothing else.
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            ConcurrencyLimitProperties concurrencyLimitProperties, ConcurrencyLimiter concurrencyLimiter) {
+
+        // Higher priorities are matched first, so a critical path can sit inside a bulk pattern.
+        var paths = new EnumMap<Priority, List<String>>(Priority.class);
+        concurrencyLimitProperties.getPriorities().forEach((priority, x) -> paths.put(priority, x.getPaths()));
+
+        var retryAfterSeconds = String.valueOf(Math.max(1, concurrencyLimitProperties.getRetryAfter().toSeconds()));
+
+        var registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(concurrencyLimiter, paths, retryAfterSeconds));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registration;
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.tourism.travels.limit;
+
+import com.tourism.travels.limit.ConcurrencyLimiter.Permit;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sheds load before it reaches Tomcat's worker pool and Hikari's connection queue. A request that does not fit
+ * under its priority's share of the limit gets an immediate 503 with Retry-After.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] OVERLOADED_BODY = "{\"message\":\"overloaded\"}".getBytes(StandardCharsets.UTF_8);
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Map<Priority, List<String>> paths;
+    private final String retryAfterSeconds;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        return path(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        var permit = concurrencyLimiter.tryAcquire(priorityOf(path(request)));
+
+        if (permit.isEmpty()) {
+
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(OVERLOADED_BODY.length);
+            response.getOutputStream().write(OVERLOADED_BODY);
+
+            return;
+        }
+
+        var dropped = true;
+
+        try {
+
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        }
+        finally {
+
+            if (!dropped && request.isAsyncStarted()) {
+
+                request.getAsyncContext().addListener(new ReleaseOnComplete(permit.get()));
+            }
+            else {
+
+                permit.get().release(dropped);
+            }
+        }
+
+    }
+
+    Priority priorityOf(String path) {
+
+        for (var entry : paths.entrySet()) {
+
+            for (var pattern : entry.getValue()) {
+
+                if (PATH_MATCHER.match(pattern, path)) {
+
+                    return entry.getKey();
+                }
+            }
+        }
+
+        return Priority.NORMAL;
+    }
+
+    private static String path(HttpServletRequest request) {
+
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * Streaming responses finish after the filter chain returns, so their permit is held until the async request
+     * completes.
+     */
+    @RequiredArgsConstructor
+    private static class ReleaseOnComplete implements AsyncListener {
+
+        private final Permit permit;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+
+            var response = (HttpServletResponse) event.getSuppliedResponse();
+
+            permit.release(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+
+            permit.release(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+
+            permit.release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+
+            event.getAsyncContext().addListener(this);
+        }
+
+    }
+
+}
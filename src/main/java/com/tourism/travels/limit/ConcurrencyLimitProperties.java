@@ -0,0 +1,58 @@
+package com.tourism.travels.limit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled;
+
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    /**
+     * How much slower than the long-term average recent requests may get before the limit starts to shrink.
+     */
+    private double tolerance = 1.5;
+
+    private double smoothing = 0.2;
+
+    /**
+     * Factor applied to the limit when a request fails with a server error.
+     */
+    private double backoffRatio = 0.9;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<Priority, PriorityProperties> priorities = new EnumMap<>(Priority.class);
+
+    @Getter
+    @Setter
+    public static class PriorityProperties {
+
+        /**
+         * Fraction of the limit that requests of this class may fill.
+         */
+        private double share = 1.0;
+
+        /**
+         * Ant-style path patterns, relative to the context path. Requests that match no class are NORMAL.
+         */
+        private List<String> paths = new ArrayList<>();
+
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.tourism.travels.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimiter {
+
+    private final AdaptiveLimit adaptiveLimit;
+    private final Map<Priority, Double> shares;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, Counter> rejections = new EnumMap<>(Priority.class);
+
+    public ConcurrencyLimiter(AdaptiveLimit adaptiveLimit, Map<Priority, Double> shares, MeterRegistry meterRegistry) {
+
+        this.adaptiveLimit = adaptiveLimit;
+        this.shares = shares;
+
+        Gauge.builder("travels.concurrency.limit", adaptiveLimit, AdaptiveLimit::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("travels.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+
+        for (var priority : Priority.values()) {
+
+            rejections.put(priority, Counter.builder("travels.concurrency.rejected")
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+
+    }
+
+    /**
+     * Admits a request if in-flight requests leave room within its class's share of the limit. Never waits.
+     */
+    public Optional<Permit> tryAcquire(Priority priority) {
+
+        var allowed = Math.max(1, (int) (adaptiveLimit.getLimit() * shares.getOrDefault(priority, 1.0)));
+
+        while (true) {
+
+            var current = inFlight.get();
+
+            if (current >= allowed) {
+
+                rejections.get(priority).increment();
+
+                return Optional.empty();
+            }
+
+            if (inFlight.compareAndSet(current, current + 1)) {
+
+                return Optional.of(new Permit(current + 1, System.nanoTime()));
+            }
+        }
+    }
+
+    public int getInFlight() {
+
+        return inFlight.get();
+    }
+
+    public final class Permit {
+
+        private final int inFlightOnAcquire;
+        private final long startNanos;
+
+        private boolean released;
+
+        private Permit(int inFlightOnAcquire, long startNanos) {
+
+            this.inFlightOnAcquire = inFlightOnAcquire;
+            this.startNanos = startNanos;
+        }
+
+        public synchronized void release(boolean dropped) {
+
+            if (released) {
+
+                return;
+            }
+
+            released = true;
+            inFlight.decrementAndGet();
+            adaptiveLimit.onSample(System.nanoTime() - startNanos, inFlightOnAcquire, dropped);
+        }
+
+    }
+
+}
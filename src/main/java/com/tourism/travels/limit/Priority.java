@@ -0,0 +1,13 @@
+package com.tourism.travels.limit;
+
+/**
+ * Priority classes for load shedding. Each class may use a share of the concurrency limit, so lower classes are
+ * turned away first as in-flight requests approach it.
+ */
+public enum Priority {
+
+    CRITICAL,
+    NORMAL,
+    BULK
+
+}
@@ -0,0 +1,197 @@
+package com.tourism.travels.loader;
+
+import com.tourism.travels.jdbc.DbRequestStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Duration loadTimeout;
+    private final BooleanSupplier bypass;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+
+    private Batch pendingBatch = new Batch();
+
+    /**
+     * @param bypass true while the calling thread must load on its own, outside of any batch, e.g. a client that has
+     *               to read its own writes from the primary
+     */
+    public BatchLoader(String name, Function<Collection<K>, Map<K, V>> batchFunction, Duration window,
+                       int maxBatchSize, Duration loadTimeout, BooleanSupplier bypass,
+                       ScheduledExecutorService scheduler, MeterRegistry meterRegistry) {
+
+        this.batchFunction = batchFunction;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+        this.loadTimeout = loadTimeout;
+        this.bypass = bypass;
+        this.scheduler = scheduler;
+
+        batchSizes = DistributionSummary.builder("travels.batch.loader.batch.size")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Loads the key and waits for its batch, for at most the load timeout. A failure of the batch is rethrown as it
+     * was thrown, not wrapped.
+     */
+    public Optional<V> get(K key) {
+
+        try {
+
+            return load(key).get(loadTimeout.toNanos(), NANOSECONDS);
+        }
+        catch (TimeoutException exception) {
+
+            throw new IllegalStateException("batch load of " + key + " timed out after " + loadTimeout, exception);
+        }
+        catch (ExecutionException exception) {
+
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(exception.getCause());
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(exception);
+        }
+
+    }
+
+    public CompletableFuture<Optional<V>> load(K key) {
+
+        if (bypass.getAsBoolean()) {
+
+            return loadAlone(key);
+        }
+
+        Batch fullBatch = null;
+        CompletableFuture<Optional<V>> load;
+
+        synchronized (this) {
+
+            var batch = pendingBatch;
+            var dbRequestStats = DbRequestStats.current();
+
+            if (dbRequestStats != null) {
+
+                batch.requestStats.add(dbRequestStats);
+            }
+
+            load = batch.loads.get(key);
+
+            if (load != null) {
+
+                return load;
+            }
+
+            load = new CompletableFuture<>();
+            batch.loads.put(key, load);
+
+            if (batch.loads.size() == 1) {
+
+                scheduler.schedule(() -> dispatch(batch), window.toNanos(), NANOSECONDS);
+            }
+
+            if (batch.loads.size() >= maxBatchSize) {
+
+                fullBatch = batch;
+                pendingBatch = new Batch();
+            }
+        }
+
+        if (fullBatch != null) {
+
+            var batch = fullBatch;
+            scheduler.execute(() -> dispatch(batch));
+        }
+
+        return load;
+    }
+
+    private CompletableFuture<Optional<V>> loadAlone(K key) {
+
+        try {
+
+            var values = batchFunction.apply(List.of(key));
+
+            return CompletableFuture.completedFuture(Optional.ofNullable(values.get(key)));
+        }
+        catch (RuntimeException exception) {
+
+            return CompletableFuture.failedFuture(exception);
+        }
+
+    }
+
+    private void dispatch(Batch batch) {
+
+        synchronized (this) {
+
+            if (batch.dispatched) {
+
+                return;
+            }
+
+            batch.dispatched = true;
+
+            if (batch == pendingBatch) {
+
+                pendingBatch = new Batch();
+            }
+        }
+
+        batchSizes.record(batch.loads.size());
+
+        try {
+
+            var values = DbRequestStats.callSharedBy(batch.requestStats,
+                    () -> batchFunction.apply(batch.loads.keySet()));
+
+            batch.loads.forEach((key, load) -> load.complete(Optional.ofNullable(values.get(key))));
+        }
+        catch (RuntimeException exception) {
+
+            batch.loads.values().forEach(load -> load.completeExceptionally(exception));
+        }
+
+    }
+
+    private class Batch {
+
+        private final Map<K, CompletableFuture<Optional<V>>> loads = new LinkedHashMap<>();
+
+        private final Set<DbRequestStats> requestStats = new HashSet<>();
+
+        private boolean dispatched;
+
+    }
+
+}
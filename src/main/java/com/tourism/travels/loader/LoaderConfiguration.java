@@ -0,0 +1,93 @@
+package com.tourism.travels.loader;
+
+import com.tourism.travels.datasource.ReadYourWrites;
+import com.tourism.travels.sql.CustomerEntity;
+import com.tourism.travels.sql.CustomerRepository;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.PackageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Configuration
+@EnableConfigurationProperties(LoaderProperties.class)
+public class LoaderConfiguration {
+
+    /**
+     * A client pinned to the primary after a write must not share a lookup with clients that read from a replica,
+     * so its lookups skip single-flight and batching and run on its own thread.
+     */
+    @Bean
+    public BooleanSupplier pinnedToPrimary(ObjectProvider<ReadYourWrites> readYourWrites) {
+
+        var pins = readYourWrites.getIfAvailable();
+
+        return pins == null ? () -> false : pins::isPinnedToPrimary;
+    }
+
+    @Bean
+    public SingleFlight<Integer, Optional<CustomerEntity>> customerSingleFlight(LoaderProperties loaderProperties,
+                                                                                BooleanSupplier pinnedToPrimary,
+                                                                                MeterRegistry meterRegistry) {
+
+        return new SingleFlight<>("customer", loaderProperties.getSingleFlightTimeout(), pinnedToPrimary,
+                meterRegistry);
+    }
+
+    @Bean
+    public SingleFlight<Integer, Optional<PackageEntity>> packageSingleFlight(LoaderProperties loaderProperties,
+                                                                              BooleanSupplier pinnedToPrimary,
+                                                                              MeterRegistry meterRegistry) {
+
+        return new SingleFlight<>("package", loaderProperties.getSingleFlightTimeout(), pinnedToPrimary,
+                meterRegistry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService batchLoaderScheduler(LoaderProperties loaderProperties) {
+
+        var threadFactory = new CustomizableThreadFactory("batch-loader-");
+        threadFactory.setDaemon(true);
+
+        return Executors.newScheduledThreadPool(loaderProperties.getBatchThreads(), threadFactory);
+    }
+
+    @Bean
+    public BatchLoader<Integer, CustomerEntity> customerBatchLoader(CustomerRepository customerRepository,
+                                                                    LoaderProperties loaderProperties,
+                                                                    BooleanSupplier pinnedToPrimary,
+                                                                    ScheduledExecutorService batchLoaderScheduler,
+                                                                    MeterRegistry meterRegistry) {
+
+        return new BatchLoader<>("customer",
+                customerIds -> customerRepository.findAllById(customerIds).stream()
+                        .collect(Collectors.toMap(CustomerEntity::getCustomerId, Function.identity())),
+                loaderProperties.getBatchWindow(), loaderProperties.getMaxBatchSize(),
+                loaderProperties.getLoadTimeout(), pinnedToPrimary, batchLoaderScheduler, meterRegistry);
+    }
+
+    @Bean
+    public BatchLoader<Integer, PackageEntity> packageBatchLoader(PackageRepository packageRepository,
+                                                                  LoaderProperties loaderProperties,
+                                                                  BooleanSupplier pinnedToPrimary,
+                                                                  ScheduledExecutorService batchLoaderScheduler,
+                                                                  MeterRegistry meterRegistry) {
+
+        return new BatchLoader<>("package",
+                packageIds -> packageRepository.findAllById(packageIds).stream()
+                        .collect(Collectors.toMap(PackageEntity::getPackageId, Function.identity())),
+                loaderProperties.getBatchWindow(), loaderProperties.getMaxBatchSize(),
+                loaderProperties.getLoadTimeout(), pinnedToPrimary, batchLoaderScheduler, meterRegistry);
+    }
+
+}
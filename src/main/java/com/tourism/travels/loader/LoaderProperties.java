@@ -0,0 +1,24 @@
+package com.tourism.travels.loader;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.loader")
+public class LoaderProperties {
+
+    private Duration singleFlightTimeout = Duration.ofSeconds(2);
+
+    private Duration batchWindow = Duration.ofMillis(2);
+
+    private int maxBatchSize = 64;
+
+    private Duration loadTimeout = Duration.ofSeconds(2);
+
+    private int batchThreads = 4;
+
+}
@@ -0,0 +1,122 @@
+package com.tourism.travels.loader;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+public class SingleFlight<K, V> {
+
+    private final Duration timeout;
+    private final BooleanSupplier bypass;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final Counter leaderCalls;
+    private final Counter coalescedCalls;
+    private final Counter timedOutCalls;
+    private final Counter bypassedCalls;
+
+    /**
+     * @param bypass true while the calling thread must not share another caller's result, e.g. a client that has to
+     *               read its own writes from the primary
+     */
+    public SingleFlight(String name, Duration timeout, BooleanSupplier bypass, MeterRegistry meterRegistry) {
+
+        this.timeout = timeout;
+        this.bypass = bypass;
+
+        leaderCalls = counter(meterRegistry, name, "leader");
+        coalescedCalls = counter(meterRegistry, name, "coalesced");
+        timedOutCalls = counter(meterRegistry, name, "timeout");
+        bypassedCalls = counter(meterRegistry, name, "bypassed");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+
+        if (bypass.getAsBoolean()) {
+
+            bypassedCalls.increment();
+
+            return loader.get();
+        }
+
+        var call = new CompletableFuture<V>();
+        var inFlightCall = inFlightCalls.putIfAbsent(key, call);
+
+        if (inFlightCall == null) {
+
+            return lead(key, call, loader);
+        }
+
+        coalescedCalls.increment();
+
+        try {
+
+            return inFlightCall.get(timeout.toNanos(), NANOSECONDS);
+        }
+        catch (TimeoutException exception) {
+
+            timedOutCalls.increment();
+
+            return loader.get();
+        }
+        catch (ExecutionException exception) {
+
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException(exception.getCause());
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(exception);
+        }
+
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+
+        leaderCalls.increment();
+
+        try {
+
+            var value = loader.get();
+            call.complete(value);
+
+            return value;
+        }
+        catch (RuntimeException exception) {
+
+            call.completeExceptionally(exception);
+
+            throw exception;
+        }
+        finally {
+
+            inFlightCalls.remove(key, call);
+        }
+
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+
+        return Counter.builder("travels.single.flight.calls")
+                .tag("name", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
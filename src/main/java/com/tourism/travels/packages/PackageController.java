@@ -1,13 +1,17 @@
 package com.tourism.travels.packages;
 
 import com.tourism.travels.customer.TravelMapper;
+import com.tourism.travels.pojo.BatchRequest;
+import com.tourism.travels.pojo.BatchResource;
 import com.tourism.travels.pojo.PackageRequest;
 import com.tourism.travels.pojo.PackageResource;
+import com.tourism.travels.sql.PackageEntity;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 
@@ -35,6 +39,18 @@ public class PackageController {
         return travelMapper.toPackageResource(packageEntity);
     }
 
+    @PostMapping("/batch")
+    public BatchResource<PackageResource> getPackagesByIds(@Valid @RequestBody BatchRequest batchRequest) {
+
+        var packageEntities = packageService.getPackageEntitiesByIds(batchRequest.getIds());
+
+        var foundIds = packageEntities.stream()
+                .map(PackageEntity::getPackageId)
+                .collect(Collectors.toSet());
+
+        return BatchResource.of(travelMapper.toPackageResources(packageEntities), batchRequest.getIds(), foundIds);
+    }
+
     @PutMapping("/add")
     public PackageRequest addPackage(@Valid @RequestBody PackageRequest packageRequest) {
 
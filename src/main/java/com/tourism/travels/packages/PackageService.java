@@ -3,12 +3,17 @@ package com.tourism.travels.packages;
 import com.tourism.travels.customer.TravelMapper;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.loader.BatchLoader;
+import com.tourism.travels.loader.SingleFlight;
 import com.tourism.travels.sql.PackageEntity;
 import com.tourism.travels.sql.PackageRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -16,7 +21,10 @@ public class PackageService {
 
     private final TravelMapper travelMapper;
     private final PackageRepository packageRepository;
+    private final BatchLoader<Integer, PackageEntity> packageBatchLoader;
+    private final SingleFlight<Integer, Optional<PackageEntity>> packageSingleFlight;
 
+    @Transactional(readOnly = true)
     public List<PackageEntity> getPackageDetails() {
 
         return packageRepository.findAll();
@@ -24,8 +32,14 @@ public class PackageService {
 
     public PackageEntity getPackageEntityById(int packageId) {
 
-        return packageRepository.findById(packageId)
-                .orElseThrow(NotFoundException::new);
+        return packageSingleFlight.execute(packageId, () -> packageBatchLoader.get(packageId))
+                .orElseThrow(NotFoundException::instance);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PackageEntity> getPackageEntitiesByIds(Collection<Integer> packageIds) {
+
+        return packageRepository.findAllById(packageIds);
     }
 
     public PackageEntity addNewPackage(PackageEntity newPackageEntity) {
@@ -44,7 +58,7 @@ public class PackageService {
         var packageId = packageEntityWithUpdates.getPackageId();
 
         var packageEntity = packageRepository.findById(packageId)
-                .orElseThrow(NotFoundException::new);
+                .orElseThrow(NotFoundException::instance);
 
         travelMapper.updatePackageEntity(packageEntity, packageEntityWithUpdates);
 
@@ -54,7 +68,7 @@ public class PackageService {
     public void deleteByPackageId(int packageId) {
 
         packageRepository.findById(packageId)
-                .orElseThrow(NotFoundException::new);
+                .orElseThrow(NotFoundException::instance);
 
         packageRepository.deleteById(packageId);
     }
@@ -0,0 +1,45 @@
+package com.tourism.travels.partitioning;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Configuration
+@EnableConfigurationProperties(PartitioningProperties.class)
+@ConditionalOnProperty(name = "travels.partitioning.enabled", havingValue = "true")
+public class PartitioningConfiguration {
+
+    @Bean
+    public TicketPartitionManager ticketPartitionManager(JdbcTemplate jdbcTemplate,
+                                                         PartitioningProperties partitioningProperties) {
+
+        return new TicketPartitionManager(jdbcTemplate, new TicketPartitions(partitioningProperties),
+                Clock.systemDefaultZone());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService ticketPartitionScheduler(PartitioningProperties partitioningProperties,
+                                                             TicketPartitionManager ticketPartitionManager) {
+
+        var threadFactory = new CustomizableThreadFactory("ticket-partitions-");
+        threadFactory.setDaemon(true);
+
+        var interval = partitioningProperties.getCheckInterval().toMillis();
+
+        var scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        // Not at startup: the first check may have DDL to run, and it holds the partition lock while it does.
+        scheduler.scheduleWithFixedDelay(ticketPartitionManager::run, interval, interval, MILLISECONDS);
+
+        return scheduler;
+    }
+
+}
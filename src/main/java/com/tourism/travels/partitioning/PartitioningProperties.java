@@ -0,0 +1,44 @@
+package com.tourism.travels.partitioning;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.partitioning")
+public class PartitioningProperties {
+
+    private boolean enabled;
+
+    private int monthsAhead = 3;
+
+    private int retainMonths = 24;
+
+    private OldPartitions oldPartitions = OldPartitions.KEEP;
+
+    private Duration checkInterval = Duration.ofHours(6);
+
+    public enum OldPartitions {
+
+        /**
+         * Old partitions stay in the ticket table.
+         */
+        KEEP,
+
+        /**
+         * Old partitions are dropped from ticket and their rows are moved into ticket_history, next to the tickets
+         * the archiver moves there.
+         */
+        DETACH,
+
+        /**
+         * As {@link #DETACH}, and ticket_history is rebuilt compressed once, if it is not already.
+         */
+        DETACH_AND_COMPRESS
+
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.tourism.travels.partitioning;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Applies the statements planned by {@link TicketPartitions} to the ticket table. Does nothing on a database other
+ * than MySQL, or while ticket is not partitioned yet; see {@code db/partitioning/mysql/partition_ticket.sql}. DDL
+ * commits implicitly in MySQL, so each statement stands on its own: a failure is logged and the rest are left for
+ * the next run. Every instance schedules the manager, but a run holds the MySQL named lock {@value #LOCK} on its
+ * connection throughout, and a run that cannot take it at once does nothing. So only one instance changes the
+ * partitions at a time.
+ */
+@Slf4j
+public class TicketPartitionManager {
+
+    static final String LOCK = "travels.ticket-partitions";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketPartitions ticketPartitions;
+    private final Clock clock;
+
+    public TicketPartitionManager(JdbcTemplate jdbcTemplate, TicketPartitions ticketPartitions, Clock clock) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.ticketPartitions = ticketPartitions;
+        this.clock = clock;
+    }
+
+    public void run() {
+
+        try {
+
+            if (!isMySql()) {
+
+                log.warn("Ticket partitioning is enabled, but the database is not MySQL; nothing to do");
+                return;
+            }
+
+            // GET_LOCK belongs to the session, so the lock, the statements and the release share one connection.
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                runLocked(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+                return null;
+            });
+        }
+        catch (RuntimeException e) {
+
+            log.error("Failed to maintain the ticket partitions; retrying at the next check", e);
+        }
+    }
+
+    private void runLocked(JdbcTemplate session) {
+
+        var locked = session.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK);
+
+        if (locked == null || locked != 1) {
+
+            log.info("Another instance is maintaining the ticket partitions; skipping this check");
+            return;
+        }
+
+        try {
+
+            maintain(session);
+        }
+        finally {
+
+            session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK);
+        }
+    }
+
+    private void maintain(JdbcTemplate session) {
+
+        var partitions = partitions(session);
+
+        if (partitions.isEmpty()) {
+
+            log.warn("Ticket partitioning is enabled, but the ticket table is not partitioned; "
+                    + "run db/partitioning/mysql/partition_ticket.sql first");
+            return;
+        }
+
+        var today = LocalDate.now(clock);
+
+        execute(session, ticketPartitions.planCreate(partitions, today, earliestTravelDate(session)));
+        execute(session, ticketPartitions.planDetach(partitions(session), detachedTables(session),
+                isHistoryCompressed(session), today));
+    }
+
+    private static void execute(JdbcTemplate session, List<String> statements) {
+
+        for (var statement : statements) {
+
+            log.info("Ticket partitioning: {}", statement);
+            session.execute(statement);
+        }
+    }
+
+    private boolean isMySql() {
+
+        var productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        return "MySQL".equalsIgnoreCase(productName);
+    }
+
+    private static List<String> partitions(JdbcTemplate session) {
+
+        return session.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL "
+                + "ORDER BY PARTITION_ORDINAL_POSITION", String.class, TicketPartitions.TABLE);
+    }
+
+    private static List<String> detachedTables(JdbcTemplate session) {
+
+        return session.queryForList("SELECT TABLE_NAME FROM information_schema.TABLES "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME LIKE ?", String.class,
+                TicketPartitions.TABLE + "\\_p%");
+    }
+
+    private static boolean isHistoryCompressed(JdbcTemplate session) {
+
+        var rowFormat = session.queryForObject("SELECT ROW_FORMAT FROM information_schema.TABLES "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", String.class, TicketPartitions.HISTORY);
+
+        return "Compressed".equalsIgnoreCase(rowFormat);
+    }
+
+    private static LocalDate earliestTravelDate(JdbcTemplate session) {
+
+        return session.queryForObject("SELECT MIN(travel_date) FROM " + TicketPartitions.TABLE, LocalDate.class);
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.tourism.travels.partitioning;
+
+import com.tourism.travels.partitioning.PartitioningProperties.OldPartitions;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Plans the DDL that keeps ticket partitioned by month: one partition per travel month, named {@code pYYYYMM}, and
+ * {@code p_future} catching everything after the last of them. Splitting months off {@code p_future} rewrites
+ * every row it holds. {@code partition_ticket.sql} creates the monthly partitions up to the latest travel date, so
+ * {@code p_future} starts out empty. After that it only holds tickets booked beyond the last monthly partition, and
+ * a split moves just those. Keep {@code monthsAhead} past the booking horizon and it moves nothing. Planning is kept
+ * apart from executing, so the statements can be checked without a MySQL server.
+ */
+public class TicketPartitions {
+
+    static final String TABLE = "ticket";
+    static final String FUTURE = "p_future";
+    static final String HISTORY = "ticket_history";
+
+    private static final String COLUMNS = "ticket_id, customer_id, package_id, travel_date, total_members, "
+            + "customer_first_name, cost_per_person, total_cost";
+
+    private static final Pattern MONTHLY = Pattern.compile("p\\d{6}");
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final int monthsAhead;
+    private final int retainMonths;
+    private final OldPartitions oldPartitions;
+
+    public TicketPartitions(PartitioningProperties partitioningProperties) {
+
+        monthsAhead = partitioningProperties.getMonthsAhead();
+        retainMonths = partitioningProperties.getRetainMonths();
+        oldPartitions = partitioningProperties.getOldPartitions();
+    }
+
+    /**
+     * Splits the months from the one after the last monthly partition, or from the earliest travel date on a table
+     * partitioned without any monthly partition, up to {@code monthsAhead} months after today off {@code p_future}.
+     * The statement copies whatever {@code p_future} holds into the new partitions. On a table with only
+     * {@code p_future} that is every row, so such a table should be converted with {@code partition_ticket.sql}
+     * instead.
+     *
+     * @param partitions         the partitions of ticket, in order
+     * @param earliestTravelDate the earliest travel date in ticket, or null when it is empty; only read when there
+     *                           is no monthly partition yet
+     */
+    public List<String> planCreate(List<String> partitions, LocalDate today, LocalDate earliestTravelDate) {
+
+        var monthly = monthly(partitions);
+
+        YearMonth first;
+
+        if (!monthly.isEmpty()) {
+
+            first = monthly.get(monthly.size() - 1).plusMonths(1);
+        }
+        else if (earliestTravelDate != null && earliestTravelDate.isBefore(today)) {
+
+            first = YearMonth.from(earliestTravelDate);
+        }
+        else {
+
+            first = YearMonth.from(today);
+        }
+
+        var last = YearMonth.from(today).plusMonths(monthsAhead);
+
+        if (first.isAfter(last)) {
+
+            return List.of();
+        }
+
+        var definitions = new ArrayList<String>();
+
+        for (var month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+
+            definitions.add("PARTITION " + name(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+
+        definitions.add("PARTITION " + FUTURE + " VALUES LESS THAN (MAXVALUE)");
+
+        return List.of("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE + " INTO ("
+                + String.join(", ", definitions) + ")");
+    }
+
+    /**
+     * Moves the monthly partitions that ended more than {@code retainMonths} months before today out of ticket and
+     * into ticket_history, where searches that include archived tickets read them. Each partition is exchanged with
+     * an empty table of the same name. The partition is then empty and is dropped. Its rows are then copied into
+     * ticket_history and the table is dropped. A table left behind by an earlier run that failed part-way is drained
+     * and dropped first; copying ignores rows that are already in ticket_history, so every step can be repeated.
+     *
+     * @param partitions        the partitions of ticket, in order
+     * @param detachedTables    the {@code ticket_pYYYYMM} tables already in the schema
+     * @param historyCompressed whether ticket_history is already stored compressed
+     */
+    public List<String> planDetach(List<String> partitions, Collection<String> detachedTables,
+                                   boolean historyCompressed, LocalDate today) {
+
+        if (oldPartitions == OldPartitions.KEEP) {
+
+            return List.of();
+        }
+
+        var statements = new ArrayList<String>();
+
+        if (oldPartitions == OldPartitions.DETACH_AND_COMPRESS && !historyCompressed) {
+
+            statements.add("ALTER TABLE " + HISTORY + " ROW_FORMAT=COMPRESSED");
+        }
+
+        detachedTables.stream()
+                .filter(table -> MONTHLY.matcher(table.substring(TABLE.length() + 1)).matches())
+                .sorted()
+                .forEach(table -> drain(table, statements));
+
+        var cutoff = YearMonth.from(today).minusMonths(retainMonths);
+
+        for (var month : monthly(partitions)) {
+
+            if (!month.isBefore(cutoff)) {
+
+                continue;
+            }
+
+            var partition = name(month);
+            var table = TABLE + "_" + partition;
+
+            statements.add("CREATE TABLE " + table + " LIKE " + TABLE);
+            statements.add("ALTER TABLE " + table + " REMOVE PARTITIONING");
+            statements.add("ALTER TABLE " + TABLE + " EXCHANGE PARTITION " + partition + " WITH TABLE " + table);
+            statements.add("ALTER TABLE " + TABLE + " DROP PARTITION " + partition);
+            drain(table, statements);
+        }
+
+        return statements;
+    }
+
+    private static void drain(String table, List<String> statements) {
+
+        statements.add("INSERT IGNORE INTO " + HISTORY + " (" + COLUMNS + ") SELECT " + COLUMNS + " FROM " + table);
+        statements.add("DROP TABLE " + table);
+    }
+
+    private static List<YearMonth> monthly(List<String> partitions) {
+
+        return partitions.stream()
+                .filter(partition -> MONTHLY.matcher(partition).matches())
+                .map(partition -> YearMonth.parse(partition.substring(1), MONTH_SUFFIX))
+                .sorted()
+                .toList();
+    }
+
+    private static String name(YearMonth month) {
+
+        return "p" + month.format(MONTH_SUFFIX);
+    }
+
+}
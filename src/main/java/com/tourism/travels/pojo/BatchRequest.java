@@ -0,0 +1,19 @@
+package com.tourism.travels.pojo;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchRequest {
+
+    @NotEmpty
+    @Size(max = 100)
+    private List<@NotNull Integer> ids;
+
+}
@@ -0,0 +1,19 @@
+package com.tourism.travels.pojo;
+
+import java.util.Collection;
+import java.util.List;
+
+public record BatchResource<T>(List<T> found, List<Integer> missingIds) {
+
+    public static <T> BatchResource<T> of(List<T> found, Collection<Integer> requestedIds,
+                                          Collection<Integer> foundIds) {
+
+        var missingIds = requestedIds.stream()
+                .distinct()
+                .filter(id -> !foundIds.contains(id))
+                .toList();
+
+        return new BatchResource<>(found, missingIds);
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.tourism.travels.pojo;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ItineraryResource {
+
+    private CustomerResource customer;
+    private List<TicketResource> tickets;
+    private List<PackageResource> packages;
+
+}
@@ -1,22 +1,35 @@
 package com.tourism.travels.pojo;
 
 import com.tourism.travels.validation.DateFormatCheck;
+import com.tourism.travels.validation.IsoDates;
 import com.tourism.travels.validation.NotEmptyIfPresent;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.domain.Sort.Direction;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 import static com.tourism.travels.pojo.SearchRequest.FieldName.TRAVEL_DATE;
 import static org.springframework.data.domain.Sort.Direction.ASC;
 
 @Getter
 @Setter
+@DateFormatCheck
 public class SearchRequest {
 
+    public static final int MAX_VALUES = 64;
+
+    public static final int MAX_FACET_BUCKETS = 50;
+
     @NotEmptyIfPresent
     private String customerId;
 
@@ -27,9 +40,35 @@ public class SearchRequest {
     @NotEmptyIfPresent
     private String email;
 
-    @DateFormatCheck
     private String travelDate;
 
+    @NotNull
+    @Size(max = MAX_VALUES)
+    private List<@NotNull Integer> customerIds = List.of();
+
+    @NotNull
+    @Size(max = MAX_VALUES)
+    private List<@NotNull Integer> packageIds = List.of();
+
+    @NotNull
+    @Size(max = MAX_VALUES)
+    private List<@NotNull @Email String> emails = List.of();
+
+    /**
+     * Criteria of which at least one must match, on top of the criteria above.
+     */
+    @Valid
+    private AnyOf anyOf;
+
+    /**
+     * Whether to search archived tickets as well. Takes single-value criteria only, and no facets.
+     */
+    private boolean includeArchived;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private LocalDate parsedTravelDate;
+
     @Valid
     private Pagination pagination = new Pagination();
 
@@ -37,6 +76,64 @@ public class SearchRequest {
     @NotNull
     private SortResultsBy sortResultsBy = new SortResultsBy();
 
+    /**
+     * Aggregates to return with the page, over every ticket that matches the criteria. Each facet lists at most
+     * {@link #MAX_FACET_BUCKETS} keys, those with the most tickets.
+     */
+    @NotNull
+    private Set<Facet> facets = EnumSet.noneOf(Facet.class);
+
+    public void setTravelDate(String travelDate) {
+
+        this.travelDate = travelDate;
+        parsedTravelDate = null;
+    }
+
+    /**
+     * Whether the request uses lists or an OR group, which the fixed single-value search shapes cannot serve.
+     */
+    public boolean hasMultiValueCriteria() {
+
+        return !customerIds.isEmpty() || !packageIds.isEmpty() || !emails.isEmpty() || anyOf != null;
+    }
+
+    /**
+     * The travel date parsed once per request, or {@code null} when absent or malformed. The class-level
+     * {@link DateFormatCheck} validates the date through this method, so the query reuses the validator's parse.
+     */
+    public LocalDate parsedTravelDate() {
+
+        if (parsedTravelDate == null && travelDate != null) {
+
+            parsedTravelDate = IsoDates.parse(travelDate);
+        }
+
+        return parsedTravelDate;
+    }
+
+    @Getter
+    @Setter
+    public static class AnyOf {
+
+        @NotNull
+        @Size(max = MAX_VALUES)
+        private List<@NotNull Integer> customerIds = List.of();
+
+        @NotNull
+        @Size(max = MAX_VALUES)
+        private List<@NotNull Integer> packageIds = List.of();
+
+        @NotNull
+        @Size(max = MAX_VALUES)
+        private List<@NotNull @Email String> emails = List.of();
+
+        public boolean isEmpty() {
+
+            return customerIds.isEmpty() && packageIds.isEmpty() && emails.isEmpty();
+        }
+
+    }
+
     @Getter
     @Setter
     public static class SortResultsBy {
@@ -55,10 +152,18 @@ public class SearchRequest {
 
         TRAVEL_DATE("travelDate"),
         CUSTOMER_ID("customerId"),
-        CUSTOMER_NAME("customerEntity.firstName");
+        CUSTOMER_NAME("customerFirstName");
 
         private final String columnName;
 
     }
 
+    public enum Facet {
+
+        PACKAGE_ID,
+        TRAVEL_MONTH,
+        CUSTOMER_ID
+
+    }
+
 }
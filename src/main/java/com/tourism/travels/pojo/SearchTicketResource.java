@@ -1,10 +1,13 @@
 package com.tourism.travels.pojo;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.tourism.travels.pojo.SearchRequest.Facet;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -13,6 +16,9 @@ public class SearchTicketResource {
     private Pagination pagination;
     private List<TicketDetail> ticketDetails;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Facet, List<FacetBucket>> facets;
+
     @Getter
     @Setter
     public static class TicketDetail {
@@ -28,4 +34,15 @@ public class SearchTicketResource {
 
     }
 
+    @Getter
+    @Setter
+    public static class FacetBucket {
+
+        private String key;
+        private long tickets;
+        private long members;
+        private long revenue;
+
+    }
+
 }
@@ -0,0 +1,94 @@
+package com.tourism.travels.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Opt-in R2DBC stack for the partner search endpoints. Boot's R2DBC auto-configuration is excluded: it would fail
+ * without a URL, and its R2dbcTransactionManager would sit next to the JPA one and make every unqualified
+ * {@code @Transactional} ambiguous. The reactive reads run without a transaction manager.
+ * <p>
+ * The connection pool is deliberately not a bean: Boot backs off from creating the JDBC DataSource as soon as any
+ * ConnectionFactory bean exists.
+ */
+@Configuration
+@EnableConfigurationProperties(ReactiveProperties.class)
+@ConditionalOnProperty(name = "travels.reactive.enabled", havingValue = "true")
+public class ReactiveConfiguration implements WebMvcConfigurer, DisposableBean {
+
+    private ConnectionPool connectionPool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ReactiveProperties reactiveProperties) {
+
+        connectionPool = connectionPool(reactiveProperties);
+
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Error responses are plain JSON objects. Letting Jackson write them for {@code application/x-ndjson} turns an
+     * error on a streaming endpoint into a single-line stream, instead of a 500 because no converter matches.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+
+        for (var converter : converters) {
+
+            if (converter instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+
+                var mediaTypes = new ArrayList<>(jacksonConverter.getSupportedMediaTypes());
+                mediaTypes.add(MediaType.APPLICATION_NDJSON);
+
+                jacksonConverter.setSupportedMediaTypes(mediaTypes);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+
+        if (connectionPool != null) {
+
+            connectionPool.dispose();
+        }
+    }
+
+    private static ConnectionPool connectionPool(ReactiveProperties reactiveProperties) {
+
+        var options = ConnectionFactoryOptions.parse(reactiveProperties.getUrl()).mutate();
+
+        if (reactiveProperties.getUsername() != null) {
+
+            options.option(ConnectionFactoryOptions.USER, reactiveProperties.getUsername());
+        }
+
+        if (reactiveProperties.getPassword() != null) {
+
+            options.option(ConnectionFactoryOptions.PASSWORD, reactiveProperties.getPassword());
+        }
+
+        var connectionFactory = ConnectionFactories.get(options.build());
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name("reactive")
+                .maxSize(reactiveProperties.getMaxPoolSize())
+                .build());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.tourism.travels.reactive;
+
+import com.tourism.travels.exception.BusinessValidationException;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
+import com.tourism.travels.pojo.TicketResource;
+import com.tourism.travels.ticket.PredicateBuilder;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+/**
+ * Partner endpoints. Asked for as {@code application/x-ndjson}, Spring MVC streams one ticket per line and only
+ * requests the next row from R2DBC once the previous one has been written. Asked for as {@code application/json},
+ * the page is collected into an array.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reactive/tickets")
+@ConditionalOnProperty(name = "travels.reactive.enabled", havingValue = "true")
+public class ReactiveTicketController {
+
+    private static final BusinessValidationException MULTI_VALUE_CRITERIA = new BusinessValidationException(
+            "reactive search takes single values only: customerIds, packageIds, emails and anyOf are not supported");
+
+    private static final BusinessValidationException ARCHIVED_TICKETS = new BusinessValidationException(
+            "reactive search covers current tickets only: includeArchived is not supported");
+
+    private final ReactiveTicketRepository reactiveTicketRepository;
+    private final PredicateBuilder predicateBuilder;
+
+    @GetMapping(produces = {APPLICATION_NDJSON_VALUE, APPLICATION_JSON_VALUE})
+    public Flux<TicketResource> getTickets() {
+
+        return reactiveTicketRepository.findAll();
+    }
+
+    @PostMapping(path = "/search", produces = {APPLICATION_NDJSON_VALUE, APPLICATION_JSON_VALUE})
+    public Flux<TicketDetail> searchTicket(@Valid @RequestBody SearchRequest searchRequest) {
+
+        predicateBuilder.requireSearchCriteria(searchRequest);
+
+        if (searchRequest.hasMultiValueCriteria()) {
+
+            throw MULTI_VALUE_CRITERIA;
+        }
+
+        if (searchRequest.isIncludeArchived()) {
+
+            throw ARCHIVED_TICKETS;
+        }
+
+        return reactiveTicketRepository.search(searchRequest);
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.tourism.travels.reactive;
+
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchRequest.FieldName;
+import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
+import com.tourism.travels.pojo.TicketResource;
+import com.tourism.travels.sql.TicketSearchRepositoryImpl;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+
+/**
+ * Ticket reads over R2DBC. Search filters with the same SQL conditions as {@link TicketSearchRepositoryImpl} and
+ * applies the same sort fields and pagination as {@code TicketController.searchTicket}, but streams the page without
+ * a count query.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "travels.reactive.enabled", havingValue = "true")
+public class ReactiveTicketRepository {
+
+    private static final String TICKET_DETAILS = "SELECT c.first_name, c.last_name, c.email, p.package_name," +
+            " p.trip_duration, t.travel_date, t.total_members, t.total_cost FROM ticket t" +
+            " LEFT JOIN customer c ON c.customer_id = t.customer_id LEFT JOIN package p ON p.id = t.package_id";
+
+    private static final String TICKETS = "SELECT t.ticket_id, t.customer_id, t.package_id, t.travel_date," +
+            " t.total_members, t.total_cost FROM ticket t ORDER BY t.ticket_id";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<TicketResource> findAll() {
+
+        return reactiveDatabaseClient.sql(TICKETS)
+                .map(ReactiveTicketRepository::toTicketResource)
+                .all();
+    }
+
+    public Flux<TicketDetail> search(SearchRequest searchRequest) {
+
+        var customerId = toInteger(searchRequest.getCustomerId());
+        var packageId = toInteger(searchRequest.getPackageId());
+        var email = searchRequest.getEmail();
+        var travelDate = searchRequest.parsedTravelDate();
+
+        var where = TicketSearchRepositoryImpl.sqlWhere(customerId, packageId, email, travelDate);
+        var parameters = new LinkedHashMap<String, Object>();
+
+        if (customerId != null) {
+
+            parameters.put("customerId", customerId);
+        }
+
+        if (packageId != null) {
+
+            parameters.put("packageId", packageId);
+        }
+
+        if (email != null) {
+
+            parameters.put("email", email);
+        }
+
+        if (travelDate != null) {
+
+            parameters.put("travelDate", travelDate);
+        }
+
+        var pagination = searchRequest.getPagination();
+        var sortResultsBy = searchRequest.getSortResultsBy();
+
+        parameters.put("limit", pagination.getPageSize());
+        parameters.put("offset", (long) pagination.getPageNumber() * pagination.getPageSize());
+
+        var sql = TICKET_DETAILS + " WHERE " + where + " ORDER BY " + column(sortResultsBy.getFieldName()) + " "
+                + sortResultsBy.getOrderBy().name() + ", t.ticket_id LIMIT :limit OFFSET :offset";
+
+        var spec = reactiveDatabaseClient.sql(sql);
+
+        for (var parameter : parameters.entrySet()) {
+
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+
+        return spec.map(ReactiveTicketRepository::toTicketDetail).all();
+    }
+
+    private static String column(FieldName fieldName) {
+
+        return switch (fieldName) {
+            case TRAVEL_DATE -> "t.travel_date";
+            case CUSTOMER_ID -> "t.customer_id";
+            case CUSTOMER_NAME -> "t.customer_first_name";
+        };
+    }
+
+    private static Integer toInteger(String value) {
+
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static TicketResource toTicketResource(Readable row) {
+
+        var ticketResource = new TicketResource();
+        ticketResource.setTicketId(String.valueOf(row.get("ticket_id", Integer.class)));
+        ticketResource.setCustomerId(String.valueOf(row.get("customer_id", Integer.class)));
+        ticketResource.setPackageId(String.valueOf(row.get("package_id", Integer.class)));
+        ticketResource.setTravelDate(row.get("travel_date", LocalDate.class));
+        ticketResource.setTotalMembers(String.valueOf(row.get("total_members", Integer.class)));
+        ticketResource.setTotalCost(row.get("total_cost", Integer.class));
+
+        return ticketResource;
+    }
+
+    private static TicketDetail toTicketDetail(Readable row) {
+
+        var ticketDetail = new TicketDetail();
+        ticketDetail.setFirstName(row.get("first_name", String.class));
+        ticketDetail.setLastName(row.get("last_name", String.class));
+        ticketDetail.setEmail(row.get("email", String.class));
+        ticketDetail.setPackageName(row.get("package_name", String.class));
+        ticketDetail.setTripDuration(row.get("trip_duration", String.class));
+        ticketDetail.setTravelDate(row.get("travel_date", LocalDate.class));
+        ticketDetail.setTotalMembers(row.get("total_members", Integer.class));
+        ticketDetail.setTotalCostOfTrip(row.get("total_cost", Integer.class));
+
+        return ticketDetail;
+    }
+
+}
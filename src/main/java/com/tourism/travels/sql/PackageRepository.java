@@ -1,13 +1,23 @@
 package com.tourism.travels.sql;
 
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
 public interface PackageRepository extends JpaRepository<PackageEntity, Integer> {
 
     Optional<PackageEntity> findById(Integer id);
 
+    @Override
+    @QueryHints({@QueryHint(name = HINT_READ_ONLY, value = "true"), @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")})
+    List<PackageEntity> findAllById(Iterable<Integer> packageIds);
+
 }
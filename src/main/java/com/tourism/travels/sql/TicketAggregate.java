@@ -0,0 +1,9 @@
+package com.tourism.travels.sql;
+
+/**
+ * Ticket count, member count and revenue of the tickets sharing one key of a facet. A travel month key is
+ * {@code year * 100 + month}.
+ */
+public record TicketAggregate(Integer key, long tickets, long members, long revenue) {
+
+}
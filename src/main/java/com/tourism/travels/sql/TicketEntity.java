@@ -30,11 +30,26 @@ public class TicketEntity {
     @Column(name = "total_members")
     private int totalMembers;
 
+    /**
+     * A copy of the customer's first name, so that name-sorted searches read tickets in order off an index.
+     */
+    @Column(name = "customer_first_name")
+    private String customerFirstName;
+
+    /**
+     * The package's price per person when the ticket was booked, so that later price changes leave it alone.
+     */
+    @Column(name = "cost_per_person")
+    private int costPerPerson;
+
+    @Column(name = "total_cost")
+    private int totalCost;
+
     @ManyToOne
     @JoinColumn(name = "customer_id", insertable = false, updatable = false)
     private CustomerEntity customerEntity;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "package_id", insertable = false, updatable = false)
     private PackageEntity packageEntity;
 
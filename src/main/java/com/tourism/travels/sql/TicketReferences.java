@@ -0,0 +1,8 @@
+package com.tourism.travels.sql;
+
+/**
+ * What a ticket copies from its customer and package when it is written.
+ */
+public record TicketReferences(String customerFirstName, int costPerPerson) {
+
+}
@@ -1,8 +1,73 @@
 package com.tourism.travels.sql;
 
+import com.querydsl.core.types.Predicate;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
-public interface TicketRepository extends JpaRepository<TicketEntity, Integer>, QuerydslPredicateExecutor<TicketEntity> {
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface TicketRepository extends JpaRepository<TicketEntity, Integer>, QuerydslPredicateExecutor<TicketEntity>,
+        TicketSearchRepository {
+
+    @Override
+    @EntityGraph(attributePaths = "customerEntity")
+    @QueryHints({@QueryHint(name = HINT_READ_ONLY, value = "true"), @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")})
+    List<TicketEntity> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"customerEntity", "packageEntity"})
+    @QueryHints({@QueryHint(name = HINT_READ_ONLY, value = "true"), @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")})
+    Page<TicketEntity> findAll(Predicate predicate, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "customerEntity")
+    @QueryHints({@QueryHint(name = HINT_READ_ONLY, value = "true"), @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")})
+    List<TicketEntity> findAllById(Iterable<Integer> ticketIds);
+
+    @EntityGraph(attributePaths = "customerEntity")
+    @QueryHints({@QueryHint(name = HINT_READ_ONLY, value = "true"), @QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")})
+    List<TicketEntity> findAllByCustomerId(int customerId);
+
+    /**
+     * The customer's first name and the package's price, for a ticket being written. Empty when either does not
+     * exist: once ticket is partitioned it has no foreign keys, and this is what checks both references.
+     */
+    @Query("select new com.tourism.travels.sql.TicketReferences(c.firstName, p.costPerPerson)"
+            + " from CustomerEntity c, PackageEntity p where c.customerId = :customerId and p.packageId = :packageId")
+    Optional<TicketReferences> findReferences(int customerId, int packageId);
+
+    /**
+     * Registers a new ticket id in ticket_ids, whose primary key is what keeps ticket ids unique across ticket, its
+     * partitions and ticket_history. Inserts nothing, and returns 0, when a ticket or an archived ticket already has
+     * the id without it being registered, e.g. a row written to the table directly. A concurrent create of the same id
+     * waits on the row lock and then fails on the primary key.
+     */
+    @Modifying
+    @Query(value = "insert into ticket_ids (ticket_id) select :ticketId from dual"
+            + " where not exists (select 1 from ticket where ticket_id = :ticketId)"
+            + " and not exists (select 1 from ticket_history where ticket_id = :ticketId)", nativeQuery = true)
+    int reserveTicketId(int ticketId);
+
+    /**
+     * Frees a cancelled ticket's id for reuse.
+     */
+    @Modifying
+    @Query(value = "delete from ticket_ids where ticket_id = :ticketId", nativeQuery = true)
+    int releaseTicketId(int ticketId);
+
+    @Modifying
+    @Query("update TicketEntity t set t.customerFirstName = :firstName where t.customerId = :customerId")
+    int updateCustomerFirstName(int customerId, String firstName);
 
 }
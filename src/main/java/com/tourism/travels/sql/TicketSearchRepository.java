@@ -0,0 +1,33 @@
+package com.tourism.travels.sql;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TicketSearchRepository {
+
+    /**
+     * Tickets matching every non-null criterion, with customer and package fetched. The pageable must be sorted by
+     * exactly one of travelDate, customerId or customerFirstName.
+     */
+    Page<TicketEntity> search(Integer customerId, Integer packageId, String email, LocalDate travelDate,
+                              Pageable pageable);
+
+    /**
+     * As {@link #search}, over ticket and ticket_history together. The tickets returned are not managed, and their
+     * customer and package carry only what a search result shows.
+     */
+    Page<TicketEntity> searchIncludingArchived(Integer customerId, Integer packageId, String email,
+                                               LocalDate travelDate, Pageable pageable);
+
+    /**
+     * Aggregates of the tickets matching the predicate, grouped by one key: the {@code limit} keys with the most
+     * tickets, most first, ties by key.
+     */
+    List<TicketAggregate> aggregate(Predicate predicate, NumberExpression<Integer> key, int limit);
+
+}
@@ -0,0 +1,331 @@
+package com.tourism.travels.sql;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.tourism.travels.sql.QTicketEntity.ticketEntity;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+/**
+ * Ticket search over a fixed set of query shapes. Every combination of criteria, sort field and direction is
+ * registered as a named query at startup, and every combination of criteria as a count query, so Hibernate parses
+ * and translates each one once. A search only picks its shape by index and binds values; no JPQL is rendered,
+ * hashed or looked up per request.
+ * <p>
+ * Searches that include archived tickets read ticket and ticket_history in one native query, since the history
+ * table is not mapped. Each side of the union is sorted and cut to the end of the page before the two are merged.
+ * <p>
+ * Facet aggregates are built with Querydsl from the same predicate as the Querydsl search, one grouped query per
+ * facet. Grouping by every facet at once would return up to one row per ticket.
+ */
+public class TicketSearchRepositoryImpl implements TicketSearchRepository {
+
+    private static final int CUSTOMER_ID = 1;
+    private static final int PACKAGE_ID = 2;
+    private static final int EMAIL = 4;
+    private static final int TRAVEL_DATE = 8;
+    private static final int CRITERIA_COMBINATIONS = 16;
+
+    private static final String[] CONDITIONS = {
+            "t.customerId = :customerId",
+            "t.packageId = :packageId",
+            // A subquery, not a condition on the fetched customer, so that it can drive the plan from the email index.
+            "t.customerId in (select e.customerId from CustomerEntity e where e.email = :email)",
+            "t.travelDate = :travelDate"};
+
+    private static final String[] SQL_CONDITIONS = {
+            "t.customer_id = :customerId",
+            "t.package_id = :packageId",
+            "t.customer_id in (select e.customer_id from customer e where e.email = :email)",
+            "t.travel_date = :travelDate"};
+
+    private static final String[] SORT_PROPERTIES = {"travelDate", "customerId", "customerFirstName"};
+    private static final String[] SORT_EXPRESSIONS = {"t.travelDate", "t.customerId", "t.customerFirstName"};
+    private static final String[] SORT_COLUMNS = {"travel_date", "customer_id", "customer_first_name"};
+
+    private static final String TICKET_COLUMNS = "ticket_id, customer_id, package_id, travel_date, total_members, " +
+            "customer_first_name, cost_per_person, total_cost";
+
+    private final EntityManager entityManager;
+    private final String[] searchQueryNames = new String[CRITERIA_COMBINATIONS * SORT_PROPERTIES.length * 2];
+    private final String[] countQueryNames = new String[CRITERIA_COMBINATIONS];
+
+    public TicketSearchRepositoryImpl(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+
+        this.entityManager = entityManager;
+
+        try (var registeringEntityManager = entityManagerFactory.createEntityManager()) {
+
+            for (var criteria = 1; criteria < CRITERIA_COMBINATIONS; criteria++) {
+
+                var where = where(criteria);
+
+                countQueryNames[criteria] = "TicketEntity.count." + criteria;
+                entityManagerFactory.addNamedQuery(countQueryNames[criteria], registeringEntityManager
+                        .createQuery("select count(t) from TicketEntity t where " + where, Long.class));
+
+                for (var sort = 0; sort < SORT_PROPERTIES.length; sort++) {
+
+                    for (var direction : Sort.Direction.values()) {
+
+                        var shape = shape(criteria, sort, direction);
+
+                        searchQueryNames[shape] = "TicketEntity.search." + shape;
+
+                        var query = registeringEntityManager.createQuery("select t from TicketEntity t " +
+                                        "left join fetch t.customerEntity c left join fetch t.packageEntity p " +
+                                        "where " + where + " order by " + SORT_EXPRESSIONS[sort] + " " + direction,
+                                        TicketEntity.class)
+                                .setHint(HINT_READ_ONLY, true)
+                                .setFlushMode(FlushModeType.COMMIT);
+
+                        entityManagerFactory.addNamedQuery(searchQueryNames[shape], query);
+                    }
+                }
+            }
+        }
+
+    }
+
+    @Override
+    public Page<TicketEntity> search(Integer customerId, Integer packageId, String email, LocalDate travelDate,
+                                     Pageable pageable) {
+
+        var criteria = criteria(customerId, packageId, email, travelDate);
+        var order = order(pageable.getSort());
+
+        var query = entityManager.createNamedQuery(searchQueryNames[shape(criteria, sortIndex(order), order.getDirection())],
+                        TicketEntity.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+
+        var content = bind(query, customerId, packageId, email, travelDate).getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+                bind(entityManager.createNamedQuery(countQueryNames[criteria], Long.class), customerId, packageId,
+                        email, travelDate).getSingleResult());
+    }
+
+    @Override
+    public Page<TicketEntity> searchIncludingArchived(Integer customerId, Integer packageId, String email,
+                                                      LocalDate travelDate, Pageable pageable) {
+
+        var criteria = criteria(customerId, packageId, email, travelDate);
+        var order = order(pageable.getSort());
+        var column = SORT_COLUMNS[sortIndex(order)];
+        var direction = order.getDirection();
+        // Ticket ids break ties, so that pages of the merged result do not overlap. Secondary indexes end with the
+        // primary key, so this needs no extra sort on either table.
+        var sort = column + " " + direction + ", ticket_id " + direction;
+        var where = where(criteria, SQL_CONDITIONS);
+        var end = pageable.getOffset() + pageable.getPageSize();
+
+        var sql = "select u.ticket_id, u.customer_id, u.package_id, u.travel_date, u.total_members, " +
+                "u.customer_first_name, u.cost_per_person, u.total_cost, c.first_name, c.last_name, c.email, " +
+                "p.package_name, p.trip_duration from (" +
+                "(select " + TICKET_COLUMNS + " from ticket t where " + where + " order by " + sort + " limit " + end +
+                ") union all (" +
+                "select " + TICKET_COLUMNS + " from ticket_history t where " + where + " order by " + sort + " limit " +
+                end + ")) u " +
+                "left join customer c on c.customer_id = u.customer_id left join package p on p.id = u.package_id " +
+                "order by u." + column + " " + direction + ", u.ticket_id " + direction;
+
+        List<?> rows = bind(entityManager.createNativeQuery(sql), customerId, packageId, email, travelDate)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        var content = rows.stream()
+                .map(row -> archivedTicket((Object[]) row))
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> ((Number) bind(entityManager.createNativeQuery(
+                "select (select count(*) from ticket t where " + where + ") + " +
+                        "(select count(*) from ticket_history t where " + where + ")"),
+                customerId, packageId, email, travelDate).getSingleResult()).longValue());
+    }
+
+    @Override
+    public List<TicketAggregate> aggregate(Predicate predicate, NumberExpression<Integer> key, int limit) {
+
+        var tickets = ticketEntity.count();
+
+        var rows = new JPAQuery<Void>(entityManager)
+                .select(key, tickets, ticketEntity.totalMembers.sum(), ticketEntity.totalCost.sum())
+                .from(ticketEntity)
+                .where(predicate)
+                .groupBy(key)
+                .orderBy(tickets.desc(), key.asc())
+                .limit(limit)
+                .setHint(HINT_READ_ONLY, true)
+                .fetch();
+
+        // Hibernate sums integers into longs, whatever type Querydsl infers for the expression.
+        return rows.stream()
+                .map(row -> {
+                    var values = row.toArray();
+
+                    return new TicketAggregate(intValue(values[0]), longValue(values[1]), longValue(values[2]),
+                            longValue(values[3]));
+                })
+                .toList();
+    }
+
+    /**
+     * A ticket read from either table, detached, with its customer and package filled in from the joined columns.
+     */
+    private static TicketEntity archivedTicket(Object[] row) {
+
+        var ticket = new TicketEntity();
+        ticket.setTicketId(intValue(row[0]));
+        ticket.setCustomerId(intValue(row[1]));
+        ticket.setPackageId(intValue(row[2]));
+        ticket.setTravelDate(localDate(row[3]));
+        ticket.setTotalMembers(intValue(row[4]));
+        ticket.setCustomerFirstName((String) row[5]);
+        ticket.setCostPerPerson(intValue(row[6]));
+        ticket.setTotalCost(intValue(row[7]));
+
+        var customer = new CustomerEntity();
+        customer.setCustomerId(ticket.getCustomerId());
+        customer.setFirstName((String) row[8]);
+        customer.setLastName((String) row[9]);
+        customer.setEmail((String) row[10]);
+        ticket.setCustomerEntity(customer);
+
+        var ticketPackage = new PackageEntity();
+        ticketPackage.setPackageId(ticket.getPackageId());
+        ticketPackage.setPackageName((String) row[11]);
+        ticketPackage.setTripDuration((String) row[12]);
+        ticket.setPackageEntity(ticketPackage);
+
+        return ticket;
+    }
+
+    private static LocalDate localDate(Object value) {
+
+        return value instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static Integer intValue(Object value) {
+
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    private static long longValue(Object value) {
+
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    /**
+     * The native SQL conditions of the criteria given, ANDed, over a ticket table aliased {@code t} and with the same
+     * named parameters as the searches here. The reactive search filters with these too, so both match alike.
+     */
+    public static String sqlWhere(Integer customerId, Integer packageId, String email, LocalDate travelDate) {
+
+        return where(criteria(customerId, packageId, email, travelDate), SQL_CONDITIONS);
+    }
+
+    private static <Q extends Query> Q bind(Q query, Integer customerId, Integer packageId, String email,
+                                            LocalDate travelDate) {
+
+        if (customerId != null) {
+
+            query.setParameter("customerId", customerId);
+        }
+
+        if (packageId != null) {
+
+            query.setParameter("packageId", packageId);
+        }
+
+        if (email != null) {
+
+            query.setParameter("email", email);
+        }
+
+        if (travelDate != null) {
+
+            query.setParameter("travelDate", travelDate);
+        }
+
+        return query;
+    }
+
+    private static int shape(int criteria, int sort, Sort.Direction direction) {
+
+        return (criteria * SORT_PROPERTIES.length + sort) * 2 + direction.ordinal();
+    }
+
+    private static int criteria(Integer customerId, Integer packageId, String email, LocalDate travelDate) {
+
+        var criteria = (customerId != null ? CUSTOMER_ID : 0) | (packageId != null ? PACKAGE_ID : 0)
+                | (email != null ? EMAIL : 0) | (travelDate != null ? TRAVEL_DATE : 0);
+
+        if (criteria == 0) {
+
+            throw new IllegalArgumentException("at least one search criterion is required");
+        }
+
+        return criteria;
+    }
+
+    private static String where(int criteria) {
+
+        return where(criteria, CONDITIONS);
+    }
+
+    private static String where(int criteria, String[] conditionsByCriterion) {
+
+        var conditions = new ArrayList<String>();
+
+        for (var i = 0; i < conditionsByCriterion.length; i++) {
+
+            if ((criteria & 1 << i) != 0) {
+
+                conditions.add(conditionsByCriterion[i]);
+            }
+        }
+
+        return String.join(" and ", conditions);
+    }
+
+    private static Sort.Order order(Sort sort) {
+
+        var orders = sort.toList();
+
+        if (orders.size() != 1) {
+
+            throw new IllegalArgumentException("ticket search sorts by exactly one property, not " + sort);
+        }
+
+        return orders.get(0);
+    }
+
+    private static int sortIndex(Sort.Order order) {
+
+        for (var i = 0; i < SORT_PROPERTIES.length; i++) {
+
+            if (SORT_PROPERTIES[i].equals(order.getProperty())) {
+
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("ticket search cannot sort by " + order.getProperty());
+    }
+
+}
@@ -0,0 +1,155 @@
+package com.tourism.travels.threads;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Holds a permit for as long as a connection is open. With one virtual thread per request there is no thread pool
+ * limiting how many requests reach the connection pool at once. The semaphore queues the excess here, where waiting
+ * parks the virtual thread instead of pinning its carrier inside the pool.
+ */
+public class DbPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration timeout;
+
+    public DbPermitDataSource(DataSource targetDataSource, int permits, Duration timeout) {
+
+        super(targetDataSource);
+
+        this.permits = new Semaphore(permits, true);
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+
+        acquire();
+
+        try {
+
+            return releasingOnClose(super.getConnection());
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            permits.release();
+
+            throw exception;
+        }
+
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+
+        acquire();
+
+        try {
+
+            return releasingOnClose(super.getConnection(username, password));
+        }
+        catch (SQLException | RuntimeException exception) {
+
+            permits.release();
+
+            throw exception;
+        }
+
+    }
+
+    public int getAvailablePermits() {
+
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+
+        try {
+
+            if (!permits.tryAcquire(timeout.toNanos(), NANOSECONDS)) {
+
+                throw new SQLTransientConnectionException("No database permit available within " + timeout);
+            }
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", exception);
+        }
+
+    }
+
+    private Connection releasingOnClose(Connection connection) {
+
+        return (Connection) Proxy.newProxyInstance(DbPermitDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    private class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection connection;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitReleasingHandler(Connection connection) {
+
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "close" -> close();
+                default -> proceed(method, args);
+            };
+        }
+
+        private Object close() throws SQLException {
+
+            try {
+
+                connection.close();
+            }
+            finally {
+
+                if (released.compareAndSet(false, true)) {
+
+                    permits.release();
+                }
+            }
+
+            return null;
+        }
+
+        private Object proceed(Method method, Object[] args) throws Throwable {
+
+            try {
+
+                return method.invoke(connection, args);
+            }
+            catch (InvocationTargetException exception) {
+
+                throw exception.getCause();
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.tourism.travels.threads;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event. It fires when a virtual thread blocks while holding a
+ * monitor or inside native code, so its carrier thread cannot serve other virtual threads. Each pinned section is
+ * counted by the library it happened in, and logged with the top of its stack.
+ */
+@Slf4j
+public class PinnedThreadMonitor implements AutoCloseable {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final RecordingStream recordingStream = new RecordingStream();
+
+    public PinnedThreadMonitor(Duration threshold, MeterRegistry meterRegistry) {
+
+        this.meterRegistry = meterRegistry;
+
+        recordingStream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(EVENT, this::pinned);
+    }
+
+    public void start() {
+
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public void close() {
+
+        recordingStream.close();
+    }
+
+    private void pinned(RecordedEvent event) {
+
+        var frames = event.getStackTrace() == null ? List.<RecordedFrame>of()
+                : event.getStackTrace().getFrames();
+
+        Counter.builder("travels.virtual.threads.pinned")
+                .tag("source", source(frames))
+                .register(meterRegistry)
+                .increment();
+
+        log.warn("Virtual thread pinned its carrier for {}ms:\n\t{}", event.getDuration().toMillis(),
+                frames.stream()
+                        .limit(LOGGED_FRAMES)
+                        .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                                + ":" + frame.getLineNumber())
+                        .collect(Collectors.joining("\n\t")));
+    }
+
+    /**
+     * The connection pool and driver are what the request threads mostly block in, so they get their own tag.
+     */
+    static String source(List<RecordedFrame> frames) {
+
+        for (var frame : frames) {
+
+            var type = frame.getMethod().getType().getName();
+
+            if (type.startsWith("com.mysql.")) {
+
+                return "mysql";
+            }
+
+            if (type.startsWith("com.zaxxer.hikari.")) {
+
+                return "hikari";
+            }
+        }
+
+        return "other";
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.tourism.travels.threads;
+
+import com.tourism.travels.datasource.ConnectionPools;
+import com.tourism.travels.datasource.ReadWriteRoutingDataSource;
+import com.tourism.travels.jdbc.DbStatsConfiguration.InstrumentedDataSourcePostProcessor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+
+/**
+ * Opt-in: runs every request on its own virtual thread instead of Tomcat's worker pool. Request threads spend
+ * most of their time waiting on JDBC, so the worker pool, not the CPU, caps throughput. The connection pool becomes
+ * the limit instead, guarded by {@link DbPermitDataSource}, and {@link PinnedThreadMonitor} reports where virtual
+ * threads still pin their carriers.
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+@ConditionalOnProperty(name = "travels.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("request-", 0).factory()));
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public PinnedThreadMonitor pinnedThreadMonitor(VirtualThreadProperties virtualThreadProperties,
+                                                   MeterRegistry meterRegistry) {
+
+        return new PinnedThreadMonitor(virtualThreadProperties.getPinnedThreshold(), meterRegistry);
+    }
+
+    @Bean
+    public static BeanPostProcessor dbPermitDataSourcePostProcessor(
+            ObjectProvider<VirtualThreadProperties> virtualThreadProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+
+        return new DbPermitDataSourcePostProcessor(virtualThreadProperties, meterRegistry);
+    }
+
+    /**
+     * Puts a {@link DbPermitDataSource} in front of every connection pool, each with its own permits: with replicas
+     * configured, one per routing target, so that a permit is only taken once a request has been routed to a pool
+     * and reads on the replicas are not throttled by the primary's size. Runs before the statement counting wraps
+     * the {@code dataSource} bean, so the permits always sit inside it.
+     */
+    static class DbPermitDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<VirtualThreadProperties> virtualThreadProperties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        DbPermitDataSourcePostProcessor(ObjectProvider<VirtualThreadProperties> virtualThreadProperties,
+                                        ObjectProvider<MeterRegistry> meterRegistry) {
+
+            this.virtualThreadProperties = virtualThreadProperties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+            if (!(bean instanceof DataSource dataSource) || !beanName.equals("dataSource")) {
+
+                return bean;
+            }
+
+            var routingDataSource = routingDataSource(dataSource);
+
+            if (routingDataSource != null) {
+
+                routingDataSource.decorateTargets(this::dbPermitDataSource);
+
+                return bean;
+            }
+
+            return dbPermitDataSource(null, dataSource);
+        }
+
+        @Override
+        public int getOrder() {
+
+            return InstrumentedDataSourcePostProcessor.ORDER - 1;
+        }
+
+        private DataSource dbPermitDataSource(String name, DataSource dataSource) {
+
+            var pools = ConnectionPools.of(dataSource);
+            var poolName = name != null ? name : pools.isEmpty() ? "dataSource" : pools.get(0).getPoolName();
+
+            var properties = virtualThreadProperties.getObject();
+            var permits = properties.getDbPermits() > 0
+                    ? properties.getDbPermits()
+                    : pools.isEmpty() ? DEFAULT_POOL_SIZE : pools.get(0).getMaximumPoolSize();
+
+            var dbPermitDataSource = new DbPermitDataSource(dataSource, permits, properties.getDbPermitTimeout());
+
+            Gauge.builder("travels.db.permits.available", dbPermitDataSource, DbPermitDataSource::getAvailablePermits)
+                    .tag("pool", poolName)
+                    .register(meterRegistry.getObject());
+
+            return dbPermitDataSource;
+        }
+
+        private static ReadWriteRoutingDataSource routingDataSource(DataSource dataSource) {
+
+            try {
+
+                return dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)
+                        ? dataSource.unwrap(ReadWriteRoutingDataSource.class)
+                        : null;
+            }
+            catch (SQLException exception) {
+
+                return null;
+            }
+
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.tourism.travels.threads;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.virtual-threads")
+public class VirtualThreadProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Concurrent connections handed out to request threads, per connection pool. 0 sizes each to its Hikari pool.
+     */
+    private int dbPermits = 0;
+
+    private Duration dbPermitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Pinned sections shorter than this are not reported.
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+}
@@ -2,49 +2,215 @@ package com.tourism.travels.ticket;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.pojo.SearchRequest;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
 
+import static com.tourism.travels.pojo.SearchRequest.MAX_VALUES;
+import static com.tourism.travels.sql.QCustomerEntity.customerEntity;
 import static com.tourism.travels.sql.QTicketEntity.ticketEntity;
 import static java.lang.Integer.parseInt;
 
 @Component
 public class PredicateBuilder {
 
+    private static final BusinessValidationException NO_SEARCH_CRITERIA = new BusinessValidationException(
+            "request body must contain at least one of the following search criteria: customerId, packageId," +
+                    " email, travelDate, customerIds, packageIds, emails, anyOf");
+
+    private static final BusinessValidationException TOO_MANY_VALUES = new BusinessValidationException(
+            "a search criterion may list at most " + MAX_VALUES + " values");
+
+    private static final BusinessValidationException MIXED_CRITERIA = new BusinessValidationException(
+            "a search criterion takes either a single value or a list: customerId and customerIds, packageId and" +
+                    " packageIds, email and emails cannot be combined");
+
+    private static final BusinessValidationException ARCHIVED_CRITERIA = new BusinessValidationException(
+            "includeArchived takes single values only: customerIds, packageIds, emails, anyOf and facets are not" +
+                    " supported");
+
+    /**
+     * Conjuncts are ordered by the index they lead with, most selective first: an email and a customer id each
+     * select one customer's tickets, a package many customers' and a travel date many packages'. An OR group goes
+     * last, since it can only narrow what the others found.
+     */
+    private static final int EMAIL = 0;
+    private static final int CUSTOMER_ID = 1;
+    private static final int PACKAGE_ID = 2;
+    private static final int TRAVEL_DATE = 3;
+    private static final int ANY_OF = 4;
+
+    /**
+     * Applies the same at-least-one-criterion rule as {@link #buildSearchPredicate}, for searches that do not go
+     * through Querydsl. A search that includes archived tickets must also stick to the single-value criteria.
+     */
+    public void requireSearchCriteria(SearchRequest searchRequest) {
+
+        var anyOf = searchRequest.getAnyOf();
+
+        if (searchRequest.getCustomerId() == null && searchRequest.getPackageId() == null
+                && searchRequest.getEmail() == null && searchRequest.getTravelDate() == null
+                && searchRequest.getCustomerIds().isEmpty() && searchRequest.getPackageIds().isEmpty()
+                && searchRequest.getEmails().isEmpty() && (anyOf == null || anyOf.isEmpty())) {
+
+            throw NO_SEARCH_CRITERIA;
+        }
+
+        requireSingleValueOrList(searchRequest);
+
+        if (searchRequest.isIncludeArchived()
+                && (searchRequest.hasMultiValueCriteria() || !searchRequest.getFacets().isEmpty())) {
+
+            throw ARCHIVED_CRITERIA;
+        }
+    }
+
     public Predicate buildSearchPredicate(SearchRequest searchRequest) {
 
-        var predicate = new BooleanBuilder();
+        requireSingleValueOrList(searchRequest);
 
-        if (searchRequest.getCustomerId() != null) {
+        var conjuncts = new ArrayList<Conjunct>();
 
-            predicate.and(ticketEntity.customerId.eq(parseInt(searchRequest.getCustomerId())));
+        var emails = values(searchRequest.getEmail(), searchRequest.getEmails());
+
+        if (!emails.isEmpty()) {
+
+            // A subquery, not a condition on the joined customer: sorting by customer name outer-joins customer, and
+            // a filter on that join cannot drive the plan through idx_customer_email.
+            conjuncts.add(new Conjunct(EMAIL, customerEmailIn(emails)));
         }
 
-        if (searchRequest.getPackageId() != null) {
+        var customerIds = values(toInteger(searchRequest.getCustomerId()), searchRequest.getCustomerIds());
 
-            predicate.and(ticketEntity.packageId.eq(parseInt(searchRequest.getPackageId())));
+        if (!customerIds.isEmpty()) {
+
+            conjuncts.add(new Conjunct(CUSTOMER_ID, customerIdIn(customerIds)));
         }
 
-        if (searchRequest.getEmail() != null) {
+        var packageIds = values(toInteger(searchRequest.getPackageId()), searchRequest.getPackageIds());
+
+        if (!packageIds.isEmpty()) {
 
-            predicate.and(ticketEntity.customerEntity.email.eq(searchRequest.getEmail()));
+            conjuncts.add(new Conjunct(PACKAGE_ID, packageIdIn(packageIds)));
         }
 
         if (searchRequest.getTravelDate() != null) {
 
-            predicate.and(ticketEntity.travelDate.eq(LocalDate.parse(searchRequest.getTravelDate())));
+            // An equality on the bare column, never wrapped in a function, so that a ticket table partitioned by
+            // travel_date prunes the search to the one partition holding that month.
+            conjuncts.add(new Conjunct(TRAVEL_DATE, ticketEntity.travelDate.eq(searchRequest.parsedTravelDate())));
         }
 
-        if (predicate.getValue() == null) {
+        var anyOf = searchRequest.getAnyOf();
+
+        if (anyOf != null && !anyOf.isEmpty()) {
+
+            var disjunction = new BooleanBuilder();
+
+            if (!anyOf.getEmails().isEmpty()) {
 
-            throw new BusinessValidationException("request body must contain at least one of the following search" +
-                    " criteria: customerId, packageId, email, travelDate");
+                disjunction.or(customerEmailIn(values(null, anyOf.getEmails())));
+            }
+
+            if (!anyOf.getCustomerIds().isEmpty()) {
+
+                disjunction.or(customerIdIn(values(null, anyOf.getCustomerIds())));
+            }
+
+            if (!anyOf.getPackageIds().isEmpty()) {
+
+                disjunction.or(packageIdIn(values(null, anyOf.getPackageIds())));
+            }
+
+            conjuncts.add(new Conjunct(ANY_OF, disjunction));
+        }
+
+        if (conjuncts.isEmpty()) {
+
+            throw NO_SEARCH_CRITERIA;
         }
 
+        conjuncts.sort(Comparator.comparingInt(Conjunct::rank));
+
+        var predicate = new BooleanBuilder();
+
+        conjuncts.forEach(conjunct -> predicate.and(conjunct.predicate()));
+
         return predicate;
     }
 
+    /**
+     * Every criterion is ANDed, so a single value next to a list of the same field could only mean the value must
+     * also be in the list; rather than guess, such a request is rejected.
+     */
+    private static void requireSingleValueOrList(SearchRequest searchRequest) {
+
+        if (searchRequest.getCustomerId() != null && !searchRequest.getCustomerIds().isEmpty()
+                || searchRequest.getPackageId() != null && !searchRequest.getPackageIds().isEmpty()
+                || searchRequest.getEmail() != null && !searchRequest.getEmails().isEmpty()) {
+
+            throw MIXED_CRITERIA;
+        }
+    }
+
+    private static BooleanExpression customerEmailIn(List<String> emails) {
+
+        return ticketEntity.customerId.in(JPAExpressions.select(customerEntity.customerId)
+                .from(customerEntity)
+                .where(emails.size() == 1
+                        ? customerEntity.email.eq(emails.get(0))
+                        : customerEntity.email.in(emails)));
+    }
+
+    private static BooleanExpression customerIdIn(List<Integer> customerIds) {
+
+        return customerIds.size() == 1
+                ? ticketEntity.customerId.eq(customerIds.get(0))
+                : ticketEntity.customerId.in(customerIds);
+    }
+
+    private static BooleanExpression packageIdIn(List<Integer> packageIds) {
+
+        return packageIds.size() == 1
+                ? ticketEntity.packageId.eq(packageIds.get(0))
+                : ticketEntity.packageId.in(packageIds);
+    }
+
+    /**
+     * The single value or the list of one criterion, deduplicated and sorted.
+     */
+    private static <T extends Comparable<T>> List<T> values(T value, Collection<T> values) {
+
+        var merged = new TreeSet<>(values);
+
+        if (value != null) {
+
+            merged.add(value);
+        }
+
+        if (merged.size() > MAX_VALUES) {
+
+            throw TOO_MANY_VALUES;
+        }
+
+        return List.copyOf(merged);
+    }
+
+    private static Integer toInteger(String value) {
+
+        return value == null ? null : parseInt(value);
+    }
+
+    private record Conjunct(int rank, Predicate predicate) {
+
+    }
+
 }
@@ -11,6 +11,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +30,26 @@ public class TicketController {
                 .toList();
     }
 
+    @GetMapping("/{ticketId}")
+    public TicketResource getTicketById(@PathVariable Integer ticketId) {
+
+        var ticketEntity = ticketService.getTicketEntityById(ticketId);
+
+        return travelMapper.toTicketResource(ticketEntity);
+    }
+
+    @PostMapping("/batch")
+    public BatchResource<TicketResource> getTicketsByIds(@Valid @RequestBody BatchRequest batchRequest) {
+
+        var ticketEntities = ticketService.getTicketEntitiesByIds(batchRequest.getIds());
+
+        var foundIds = ticketEntities.stream()
+                .map(TicketEntity::getTicketId)
+                .collect(Collectors.toSet());
+
+        return BatchResource.of(travelMapper.toTicketResources(ticketEntities), batchRequest.getIds(), foundIds);
+    }
+
     @PutMapping("/create")
     public TicketRequest createTicket(@Valid @RequestBody TicketRequest ticketRequest) {
 
@@ -42,14 +63,17 @@ public class TicketController {
     @PostMapping("/search")
     public SearchTicketResource searchTicket(@Valid @RequestBody SearchRequest searchRequest) {
 
-        var predicate = predicateBuilder.buildSearchPredicate(searchRequest);
+        predicateBuilder.requireSearchCriteria(searchRequest);
 
         var pagination = searchRequest.getPagination();
         var sortResultsBy = searchRequest.getSortResultsBy();
         var pageRequest = PageRequest.of(pagination.getPageNumber(), pagination.getPageSize())
                 .withSort(Sort.by(sortResultsBy.getOrderBy(), sortResultsBy.getFieldName().getColumnName()));
 
-        var ticketEntityPage = ticketService.getTicketsBySearchPredicate(predicate, pageRequest);
+        var ticketEntityPage = searchRequest.hasMultiValueCriteria()
+                ? ticketService.getTicketsBySearchPredicate(predicateBuilder.buildSearchPredicate(searchRequest),
+                        pageRequest)
+                : ticketService.searchTickets(searchRequest, pageRequest);
 
         var resultPagination = buildPaginationForTicketSearch(ticketEntityPage);
 
@@ -61,6 +85,13 @@ public class TicketController {
         searchTicketResource.setPagination(resultPagination);
         searchTicketResource.setTicketDetails(ticketDetails);
 
+        if (!searchRequest.getFacets().isEmpty()) {
+
+            var predicate = predicateBuilder.buildSearchPredicate(searchRequest);
+
+            searchTicketResource.setFacets(ticketService.getSearchFacets(predicate, searchRequest.getFacets()));
+        }
+
         return searchTicketResource;
     }
 
@@ -1,85 +1,240 @@
 package com.tourism.travels.ticket;
 
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.tourism.travels.customer.TravelMapper;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchRequest.Facet;
+import com.tourism.travels.pojo.SearchTicketResource.FacetBucket;
+import com.tourism.travels.sql.TicketAggregate;
 import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.sql.TicketReferences;
 import com.tourism.travels.sql.TicketRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.tourism.travels.pojo.SearchRequest.MAX_FACET_BUCKETS;
+import static com.tourism.travels.pojo.SearchRequest.Facet.TRAVEL_MONTH;
+import static com.tourism.travels.sql.QTicketEntity.ticketEntity;
 
 @Service
 @RequiredArgsConstructor
 public class TicketService {
 
+    private static final BusinessValidationException TICKET_ALREADY_EXISTS =
+            new BusinessValidationException("Ticket already exists");
+
+    private static final BusinessValidationException INVALID_CUSTOMER_OR_PACKAGE_ID =
+            new BusinessValidationException("The customerId/packageId is not a valid Id");
+
     private final TravelMapper travelMapper;
     private final TicketRepository ticketRepository;
 
+    @Transactional(readOnly = true)
     public List<TicketEntity> getTicketEntities() {
 
         return ticketRepository.findAll();
     }
 
-    public TicketEntity createTicket(TicketEntity ticketEntity) {
+    @Transactional(readOnly = true)
+    public TicketEntity getTicketEntityById(int ticketId) {
+
+        return ticketRepository.findById(ticketId)
+                .orElseThrow(NotFoundException::instance);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketEntity> getTicketEntitiesByIds(Collection<Integer> ticketIds) {
+
+        return ticketRepository.findAllById(ticketIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketEntity> getTicketEntitiesByCustomerId(int customerId) {
+
+        return ticketRepository.findAllByCustomerId(customerId);
+    }
 
-        var ticketId = ticketEntity.getTicketId();
+    /**
+     * Registers the id and writes the ticket in one transaction, so the id is taken only if the ticket is written.
+     */
+    @Transactional
+    public TicketEntity createTicket(TicketEntity ticketEntity) {
 
-        ticketRepository.findById(ticketId)
-                .ifPresent(x -> { throw new BusinessValidationException("Ticket already exists"); });
+        reserveTicketId(ticketEntity.getTicketId());
 
         try {
 
-            return ticketRepository.save(ticketEntity);
+            var references = references(ticketEntity);
+
+            ticketEntity.setCustomerFirstName(references.customerFirstName());
+            ticketEntity.setCostPerPerson(references.costPerPerson());
+            ticketEntity.setTotalCost(ticketEntity.getTotalMembers() * references.costPerPerson());
+
+            return ticketRepository.saveAndFlush(ticketEntity);
         }
         catch (RuntimeException exception) {
 
-            throw new BusinessValidationException("The customerId/packageId is not a valid Id");
+            throw INVALID_CUSTOMER_OR_PACKAGE_ID;
         }
 
     }
 
+    @Transactional(readOnly = true)
+    public Page<TicketEntity> searchTickets(SearchRequest searchRequest, Pageable pageable) {
+
+        var customerId = toInteger(searchRequest.getCustomerId());
+        var packageId = toInteger(searchRequest.getPackageId());
+
+        return searchRequest.isIncludeArchived()
+                ? ticketRepository.searchIncludingArchived(customerId, packageId, searchRequest.getEmail(),
+                        searchRequest.parsedTravelDate(), pageable)
+                : ticketRepository.search(customerId, packageId, searchRequest.getEmail(),
+                        searchRequest.parsedTravelDate(), pageable);
+    }
+
+    /**
+     * Searches that the named search shapes cannot express, such as lists of values or an OR group.
+     */
+    @Transactional(readOnly = true)
     public Page<TicketEntity> getTicketsBySearchPredicate(Predicate predicate, Pageable pageable) {
 
         return ticketRepository.findAll(predicate, pageable);
     }
 
+    /**
+     * Runs one grouped query per facet asked for, each capped at the {@link SearchRequest#MAX_FACET_BUCKETS} keys
+     * with the most tickets. Buckets are ordered by ticket count, most first, then by key.
+     */
+    @Transactional(readOnly = true)
+    public Map<Facet, List<FacetBucket>> getSearchFacets(Predicate predicate, Set<Facet> facets) {
+
+        var searchFacets = new EnumMap<Facet, List<FacetBucket>>(Facet.class);
+
+        for (var facet : Facet.values()) {
+
+            if (facets.contains(facet)) {
+
+                var buckets = ticketRepository.aggregate(predicate, facetKey(facet), MAX_FACET_BUCKETS).stream()
+                        .map(aggregate -> facetBucket(facet, aggregate))
+                        .toList();
+
+                searchFacets.put(facet, buckets);
+            }
+        }
+
+        return searchFacets;
+    }
+
     public TicketEntity updateTicketById(TicketEntity ticketEntityWithUpdates) {
 
         var ticketId = ticketEntityWithUpdates.getTicketId();
 
         var ticketEntity = ticketRepository.findById(ticketId)
-                .orElseThrow(NotFoundException::new);
+                .orElseThrow(NotFoundException::instance);
+
+        var bookedPackageId = ticketEntity.getPackageId();
 
         travelMapper.updateTicketEntity(ticketEntity, ticketEntityWithUpdates);
 
         try {
 
+            var references = references(ticketEntity);
+
+            ticketEntity.setCustomerFirstName(references.customerFirstName());
+
+            // The price stays as booked unless the ticket moves to another package.
+            if (ticketEntity.getPackageId() != bookedPackageId) {
+
+                ticketEntity.setCostPerPerson(references.costPerPerson());
+            }
+
+            ticketEntity.setTotalCost(ticketEntity.getTotalMembers() * ticketEntity.getCostPerPerson());
+
             return ticketRepository.save(ticketEntity);
         }
         catch (RuntimeException exception) {
 
-            throw new BusinessValidationException("The customerId/packageId is not a valid Id");
+            throw INVALID_CUSTOMER_OR_PACKAGE_ID;
         }
 
     }
 
+    @Transactional
     public Integer deleteTicket(int ticketId) {
 
         var ticketEntity = ticketRepository.findById(ticketId)
-                .orElseThrow(NotFoundException::new);
-
-        var costPerPerson = ticketEntity.getPackageEntity().getCostPerPerson();
-        var totalMembers = ticketEntity.getTotalMembers();
-        var totalCost = totalMembers * costPerPerson;
+                .orElseThrow(NotFoundException::instance);
 
         ticketRepository.deleteById(ticketId);
+        ticketRepository.releaseTicketId(ticketId);
+
+        return (ticketEntity.getTotalCost() * 80) / 100;
+    }
+
+    private void reserveTicketId(int ticketId) {
+
+        try {
+
+            if (ticketRepository.reserveTicketId(ticketId) == 0) {
+
+                throw TICKET_ALREADY_EXISTS;
+            }
+        }
+        catch (DataIntegrityViolationException exception) {
+
+            throw TICKET_ALREADY_EXISTS;
+        }
+
+    }
+
+    private static NumberExpression<Integer> facetKey(Facet facet) {
+
+        return switch (facet) {
+            case PACKAGE_ID -> ticketEntity.packageId;
+            case TRAVEL_MONTH -> ticketEntity.travelDate.yearMonth();
+            case CUSTOMER_ID -> ticketEntity.customerId;
+        };
+    }
+
+    private static FacetBucket facetBucket(Facet facet, TicketAggregate aggregate) {
+
+        var key = aggregate.key();
+
+        var facetBucket = new FacetBucket();
+        facetBucket.setTickets(aggregate.tickets());
+        facetBucket.setMembers(aggregate.members());
+        facetBucket.setRevenue(aggregate.revenue());
+
+        if (key != null) {
+
+            facetBucket.setKey(facet == TRAVEL_MONTH ? "%d-%02d".formatted(key / 100, key % 100) : key.toString());
+        }
+
+        return facetBucket;
+    }
+
+    private TicketReferences references(TicketEntity ticketEntity) {
+
+        return ticketRepository.findReferences(ticketEntity.getCustomerId(), ticketEntity.getPackageId())
+                .orElseThrow(() -> INVALID_CUSTOMER_OR_PACKAGE_ID);
+    }
+
+    private static Integer toInteger(String value) {
 
-        return (totalCost * 80) / 100;
+        return value == null ? null : Integer.valueOf(value);
     }
 
 }
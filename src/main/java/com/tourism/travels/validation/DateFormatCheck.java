@@ -6,9 +6,9 @@ import jakarta.validation.Payload;
 import java.lang.annotation.*;
 
 @Documented
-@Target({ElementType.FIELD})
+@Target({ElementType.FIELD, ElementType.TYPE})
 @Retention(RetentionPolicy.RUNTIME)
-@Constraint(validatedBy = {DateFormatValidator.class})
+@Constraint(validatedBy = {DateFormatValidator.class, TravelDateValidator.class})
 public @interface DateFormatCheck {
 
     String message() default "travel date is in wrong format, correct format is yyyy-mm-dd";
@@ -3,9 +3,6 @@ package com.tourism.travels.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-
 public class DateFormatValidator implements ConstraintValidator<DateFormatCheck, String> {
 
     @Override
@@ -16,18 +13,7 @@ public class DateFormatValidator implements ConstraintValidator<DateFormatCheck,
             return true;
         }
 
-        try {
-            var localDate = LocalDate.parse(date);
-            var dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-            return date.equals(dateTimeFormatter.format(localDate));
-        }
-
-        catch (Exception e) {
-
-            return false;
-        }
-
+        return IsoDates.isValid(date);
     }
 
 }
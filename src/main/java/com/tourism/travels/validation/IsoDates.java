@@ -0,0 +1,119 @@
+package com.tourism.travels.validation;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Parses {@code yyyy-MM-dd} dates character by character, without exceptions and, for validation, without
+ * allocating. Dates are handled as {@code yyyyMMdd} ints, which compare in calendar order.
+ */
+public final class IsoDates {
+
+    public static final int INVALID = -1;
+
+    private static volatile Today today = Today.now();
+
+    private IsoDates() {
+    }
+
+    /**
+     * @return the date as a {@code yyyyMMdd} int, or {@link #INVALID} when it is not a real {@code yyyy-MM-dd} date
+     */
+    public static int toYearMonthDay(CharSequence date) {
+
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+
+            return INVALID;
+        }
+
+        var year = digits(date, 0, 4);
+        var month = digits(date, 5, 7);
+        var day = digits(date, 8, 10);
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+
+            return INVALID;
+        }
+
+        return year * 10_000 + month * 100 + day;
+    }
+
+    public static boolean isValid(CharSequence date) {
+
+        return toYearMonthDay(date) != INVALID;
+    }
+
+    /**
+     * @return the parsed date, or {@code null} when it is not a real {@code yyyy-MM-dd} date
+     */
+    public static LocalDate parse(CharSequence date) {
+
+        var yearMonthDay = toYearMonthDay(date);
+
+        if (yearMonthDay == INVALID) {
+
+            return null;
+        }
+
+        return LocalDate.of(yearMonthDay / 10_000, yearMonthDay / 100 % 100, yearMonthDay % 100);
+    }
+
+    /**
+     * Today in the system time zone as a {@code yyyyMMdd} int. It is recomputed once per day rather than on every
+     * call.
+     */
+    public static int today() {
+
+        var current = today;
+
+        if (System.currentTimeMillis() >= current.nextMidnightMillis()) {
+
+            current = Today.now();
+            today = current;
+        }
+
+        return current.yearMonthDay();
+    }
+
+    private static int digits(CharSequence date, int from, int to) {
+
+        var value = 0;
+
+        for (var index = from; index < to; index++) {
+
+            var digit = date.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9) {
+
+                return INVALID;
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private record Today(int yearMonthDay, long nextMidnightMillis) {
+
+        static Today now() {
+
+            var zone = ZoneId.systemDefault();
+            var date = LocalDate.now(zone);
+
+            return new Today(date.getYear() * 10_000 + date.getMonthValue() * 100 + date.getDayOfMonth(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+
+    }
+
+}
@@ -3,8 +3,6 @@ package com.tourism.travels.validation;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.time.LocalDate;
-
 public class PresentOrFutureDateValidator implements ConstraintValidator<PresentOrFutureDateCheck, String> {
 
     @Override
@@ -15,15 +13,9 @@ public class PresentOrFutureDateValidator implements ConstraintValidator<Present
             return true;
         }
 
-        try {
-
-            var todayDate = LocalDate.now();
-            var localDate = LocalDate.parse(date);
-
-            return todayDate.equals(localDate) || todayDate.isBefore(localDate);
-        }
+        var yearMonthDay = IsoDates.toYearMonthDay(date);
 
-        catch (Exception e) {
+        if (yearMonthDay == IsoDates.INVALID) {
 
             constraintValidatorContext.disableDefaultConstraintViolation();
             constraintValidatorContext
@@ -33,6 +25,7 @@ public class PresentOrFutureDateValidator implements ConstraintValidator<Present
             return false;
         }
 
+        return yearMonthDay >= IsoDates.today();
     }
 
 }
@@ -0,0 +1,31 @@
+package com.tourism.travels.validation;
+
+import com.tourism.travels.pojo.SearchRequest;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Checks the travel date of a search through {@link SearchRequest#parsedTravelDate()}, so the date is parsed once per
+ * request and the parse is reused by the query. The violation is reported on the {@code travelDate} field.
+ */
+public class TravelDateValidator implements ConstraintValidator<DateFormatCheck, SearchRequest> {
+
+    @Override
+    public boolean isValid(SearchRequest searchRequest, ConstraintValidatorContext constraintValidatorContext) {
+
+        if (searchRequest == null || searchRequest.getTravelDate() == null
+                || searchRequest.parsedTravelDate() != null) {
+
+            return true;
+        }
+
+        constraintValidatorContext.disableDefaultConstraintViolation();
+        constraintValidatorContext
+                .buildConstraintViolationWithTemplate(constraintValidatorContext.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("travelDate")
+                .addConstraintViolation();
+
+        return false;
+    }
+
+}
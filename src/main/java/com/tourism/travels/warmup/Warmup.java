@@ -0,0 +1,177 @@
+package com.tourism.travels.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Runs the warm-up steps in order until they finish or the budget runs out. Spring Boot reports readiness only
+ * after every {@link ApplicationRunner} has returned, so the readiness probe stays down for the duration. A step
+ * that fails is logged and skipped; warming up never stops the application from starting.
+ */
+@Slf4j
+public class Warmup implements ApplicationRunner {
+
+    private final Duration budget;
+    private final List<Step> steps;
+    private final List<StepProgress> progress;
+
+    private volatile State state = State.PENDING;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    public Warmup(Duration budget, List<Step> steps) {
+
+        this.budget = budget;
+        this.steps = steps;
+
+        progress = steps.stream()
+                .map(step -> new StepProgress(step.name(), step.iterations()))
+                .toList();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        run();
+    }
+
+    public void run() {
+
+        startNanos = System.nanoTime();
+        state = State.RUNNING;
+
+        var deadline = startNanos + budget.toNanos();
+
+        for (var i = 0; i < steps.size() && state == State.RUNNING; i++) {
+
+            run(steps.get(i), progress.get(i), deadline);
+        }
+
+        if (state == State.RUNNING) {
+
+            state = State.COMPLETED;
+        }
+
+        endNanos = System.nanoTime();
+
+        log.info("Warm-up {} in {} ms", state.name().toLowerCase(), (endNanos - startNanos) / 1_000_000);
+    }
+
+    public Report report() {
+
+        var elapsedNanos = switch (state) {
+            case PENDING -> 0;
+            case RUNNING -> System.nanoTime() - startNanos;
+            default -> endNanos - startNanos;
+        };
+
+        var stepReports = progress.stream()
+                .map(StepProgress::report)
+                .toList();
+
+        return new Report(state, budget.toMillis(), elapsedNanos / 1_000_000, stepReports);
+    }
+
+    private void run(Step step, StepProgress stepProgress, long deadline) {
+
+        stepProgress.start();
+
+        try {
+
+            for (var iteration = 0; iteration < step.iterations(); iteration++) {
+
+                if (System.nanoTime() > deadline) {
+
+                    state = State.BUDGET_EXCEEDED;
+                    stepProgress.finish(State.BUDGET_EXCEEDED);
+
+                    return;
+                }
+
+                step.action().accept(iteration);
+                stepProgress.completed++;
+            }
+
+            stepProgress.finish(State.COMPLETED);
+        }
+        catch (RuntimeException exception) {
+
+            log.warn("Warm-up step {} failed", step.name(), exception);
+
+            stepProgress.finish(State.FAILED);
+        }
+
+    }
+
+    public enum State {
+
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        BUDGET_EXCEEDED,
+        FAILED
+
+    }
+
+    /**
+     * One unit of warm-up work, called with the iteration number {@code iterations} times.
+     */
+    public record Step(String name, int iterations, IntConsumer action) {
+
+    }
+
+    public record Report(State state, long budgetMs, long elapsedMs, List<StepReport> steps) {
+
+    }
+
+    public record StepReport(String name, State state, int iterations, int completed, long elapsedMs) {
+
+    }
+
+    private static class StepProgress {
+
+        private final String name;
+        private final int iterations;
+
+        private volatile State state = State.PENDING;
+        private volatile int completed;
+        private volatile long startNanos;
+        private volatile long endNanos;
+
+        private StepProgress(String name, int iterations) {
+
+            this.name = name;
+            this.iterations = iterations;
+        }
+
+        private void start() {
+
+            startNanos = System.nanoTime();
+            state = State.RUNNING;
+        }
+
+        private void finish(State finalState) {
+
+            endNanos = System.nanoTime();
+            state = finalState;
+        }
+
+        private StepReport report() {
+
+            var elapsedNanos = switch (state) {
+                case PENDING -> 0;
+                case RUNNING -> System.nanoTime() - startNanos;
+                default -> endNanos - startNanos;
+            };
+
+            return new StepReport(name, state, iterations, completed, elapsedNanos / 1_000_000);
+        }
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.tourism.travels.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.travels.customer.CustomerController;
+import com.tourism.travels.customer.TravelMapper;
+import com.tourism.travels.packages.PackageController;
+import com.tourism.travels.ticket.PredicateBuilder;
+import com.tourism.travels.ticket.TicketController;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(name = "travels.warmup.enabled", havingValue = "true")
+public class WarmupConfiguration {
+
+    @Bean
+    public Warmup warmup(WarmupProperties warmupProperties, TravelMapper travelMapper,
+                         PredicateBuilder predicateBuilder, Validator validator, ObjectMapper objectMapper,
+                         DataSource dataSource, TicketController ticketController,
+                         CustomerController customerController, PackageController packageController) {
+
+        var warmupSteps = new WarmupSteps(travelMapper, predicateBuilder, validator, objectMapper, dataSource,
+                ticketController, customerController, packageController);
+
+        return new Warmup(warmupProperties.getBudget(), warmupSteps.all(warmupProperties));
+    }
+
+    @Bean
+    public WarmupEndpoint warmupEndpoint(Warmup warmup) {
+
+        return new WarmupEndpoint(warmup);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.tourism.travels.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final Warmup warmup;
+
+    @ReadOperation
+    public Warmup.Report warmup() {
+
+        return warmup.report();
+    }
+
+}
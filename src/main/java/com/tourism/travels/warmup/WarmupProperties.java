@@ -0,0 +1,31 @@
+package com.tourism.travels.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "travels.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Wall-clock time the warm-up may take before readiness is reported regardless.
+     */
+    private Duration budget = Duration.ofSeconds(30);
+
+    /**
+     * Calls per in-memory step; enough for the JIT to compile the hot paths with C2.
+     */
+    private int iterations = 10_000;
+
+    /**
+     * Rounds of the search and lookup queries, each run on every pooled connection at once.
+     */
+    private int queryRounds = 5;
+
+}
@@ -0,0 +1,367 @@
+package com.tourism.travels.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tourism.travels.customer.CustomerController;
+import com.tourism.travels.customer.TravelMapper;
+import com.tourism.travels.datasource.ConnectionPools;
+import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.packages.PackageController;
+import com.tourism.travels.pojo.CustomerRequest;
+import com.tourism.travels.pojo.Pagination;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchRequest.AnyOf;
+import com.tourism.travels.pojo.SearchRequest.FieldName;
+import com.tourism.travels.pojo.SearchTicketResource;
+import com.tourism.travels.pojo.TicketRequest;
+import com.tourism.travels.sql.CustomerEntity;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.ticket.PredicateBuilder;
+import com.tourism.travels.ticket.TicketController;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * Warm-up work on synthetic payloads: the in-memory hot paths until the JIT has compiled them, then the connection
+ * pool, the search and lookup queries, and the package catalog.
+ */
+@RequiredArgsConstructor
+public class WarmupSteps {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final LocalDate TRAVEL_DATE = LocalDate.now().plusYears(1);
+
+    private final TravelMapper travelMapper;
+    private final PredicateBuilder predicateBuilder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final TicketController ticketController;
+    private final CustomerController customerController;
+    private final PackageController packageController;
+
+    public List<Warmup.Step> all(WarmupProperties warmupProperties) {
+
+        var iterations = warmupProperties.getIterations();
+
+        return List.of(
+                new Warmup.Step("mapper", iterations, this::mapper),
+                new Warmup.Step("predicates", iterations, this::predicates),
+                new Warmup.Step("validators", iterations, this::validators),
+                new Warmup.Step("jackson", iterations, this::jackson),
+                new Warmup.Step("connectionPool", 1, iteration -> connectionPool()),
+                new Warmup.Step("queries", warmupProperties.getQueryRounds(), iteration -> queries()),
+                new Warmup.Step("packageCatalog", 1, iteration -> packageController.getPackages()));
+    }
+
+    void mapper(int iteration) {
+
+        var ticketEntity = ticketEntity(iteration);
+
+        travelMapper.toTicketResource(ticketEntity);
+        travelMapper.mapTicketDetails(ticketEntity);
+        travelMapper.toPackageResource(ticketEntity.getPackageEntity());
+        travelMapper.toCustomerResource(ticketEntity.getCustomerEntity());
+        travelMapper.toTicketRequest(travelMapper.toTicketEntity(ticketRequest(iteration)));
+    }
+
+    /**
+     * Cycles through the list criteria and the OR group, the searches that still go through Querydsl.
+     */
+    void predicates(int iteration) {
+
+        predicateBuilder.buildSearchPredicate(listSearchRequest(iteration));
+    }
+
+    void validators(int iteration) {
+
+        validator.validate(searchRequest(iteration % 15 + 1, iteration));
+        validator.validate(ticketRequest(iteration));
+        validator.validate(customerRequest(iteration));
+    }
+
+    void jackson(int iteration) {
+
+        try {
+
+            var searchRequest = objectMapper.writeValueAsBytes(searchRequest(iteration % 15 + 1, iteration));
+            objectMapper.readValue(searchRequest, SearchRequest.class);
+
+            var ticketRequest = objectMapper.writeValueAsBytes(ticketRequest(iteration));
+            objectMapper.readValue(ticketRequest, TicketRequest.class);
+
+            objectMapper.writeValueAsBytes(searchTicketResource(iteration));
+        }
+        catch (IOException exception) {
+
+            throw new IllegalStateException(exception);
+        }
+
+    }
+
+    /**
+     * Fills every Hikari pool behind the data source, the primary's and each replica's, and runs a statement on each
+     * connection, so that none is opened or first used on a request's critical path.
+     */
+    void connectionPool() {
+
+        for (var pool : ConnectionPools.of(dataSource)) {
+
+            fill(pool);
+        }
+    }
+
+    private static void fill(HikariDataSource pool) {
+
+        var connections = new ArrayList<Connection>();
+
+        try {
+
+            for (var i = 0; i < pool.getMaximumPoolSize(); i++) {
+
+                var connection = pool.getConnection();
+                connections.add(connection);
+
+                try (var statement = connection.createStatement()) {
+
+                    statement.execute("SELECT 1");
+                }
+            }
+        }
+        catch (SQLException exception) {
+
+            throw new IllegalStateException("Failed to warm up pool " + pool.getPoolName(), exception);
+        }
+        finally {
+
+            connections.forEach(WarmupSteps::close);
+        }
+
+    }
+
+    /**
+     * Runs the queries on as many threads as there are pooled connections, so that each connection prepares, and
+     * with cachePrepStmts caches, its own statements.
+     */
+    void queries() {
+
+        var threads = poolSize();
+        var executor = Executors.newFixedThreadPool(threads);
+
+        try {
+
+            var tasks = IntStream.range(0, threads)
+                    .<Callable<Object>>mapToObj(thread -> () -> {
+                        runQueries(thread);
+                        return null;
+                    })
+                    .toList();
+
+            for (var result : executor.invokeAll(tasks)) {
+
+                result.get();
+            }
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(exception);
+        }
+        catch (ExecutionException exception) {
+
+            throw new IllegalStateException(exception.getCause());
+        }
+        finally {
+
+            executor.shutdownNow();
+        }
+
+    }
+
+    private void runQueries(int seed) {
+
+        for (var fieldName : FieldName.values()) {
+
+            for (var criterion = 1; criterion <= 8; criterion <<= 1) {
+
+                var searchRequest = searchRequest(criterion, seed);
+                searchRequest.getSortResultsBy().setFieldName(fieldName);
+
+                ticketController.searchTicket(searchRequest);
+            }
+        }
+
+        ignoreNotFound(() -> ticketController.getTicketById(seed + 1));
+        ignoreNotFound(() -> customerController.getCustomerById(String.valueOf(seed + 1)));
+        ignoreNotFound(() -> packageController.getPackageById(String.valueOf(seed + 1)));
+    }
+
+    private int poolSize() {
+
+        return ConnectionPools.of(dataSource).stream()
+                .mapToInt(HikariDataSource::getMaximumPoolSize)
+                .max()
+                .orElse(DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * A search request with the criteria picked by the low four bits of {@code criteria}: customer, package, email,
+     * travel date.
+     */
+    private static SearchRequest searchRequest(int criteria, int seed) {
+
+        var searchRequest = new SearchRequest();
+
+        if ((criteria & 1) != 0) {
+
+            searchRequest.setCustomerId(String.valueOf(seed % 1000 + 1));
+        }
+
+        if ((criteria & 2) != 0) {
+
+            searchRequest.setPackageId(String.valueOf(seed % 100 + 1));
+        }
+
+        if ((criteria & 4) != 0) {
+
+            searchRequest.setEmail("customer" + seed % 1000 + "@example.com");
+        }
+
+        if ((criteria & 8) != 0) {
+
+            searchRequest.setTravelDate(TRAVEL_DATE.plusDays(seed % 365).toString());
+        }
+
+        return searchRequest;
+    }
+
+    /**
+     * A search request with lists of one to four values, cycling through the list criteria and the OR group.
+     */
+    private static SearchRequest listSearchRequest(int seed) {
+
+        var values = IntStream.rangeClosed(0, seed % 4).map(i -> seed + i).boxed().toList();
+        var searchRequest = new SearchRequest();
+
+        switch (seed % 4) {
+            case 0 -> searchRequest.setCustomerIds(values);
+            case 1 -> searchRequest.setPackageIds(values);
+            case 2 -> searchRequest.setEmails(values.stream().map(i -> "customer" + i + "@example.com").toList());
+            default -> {
+                var anyOf = new AnyOf();
+                anyOf.setCustomerIds(values);
+                anyOf.setPackageIds(values);
+                searchRequest.setAnyOf(anyOf);
+                searchRequest.setTravelDate(TRAVEL_DATE.plusDays(seed % 365).toString());
+            }
+        }
+
+        return searchRequest;
+    }
+
+    private static TicketRequest ticketRequest(int seed) {
+
+        var ticketRequest = new TicketRequest();
+        ticketRequest.setTicketId(String.valueOf(seed + 1));
+        ticketRequest.setCustomerId(String.valueOf(seed % 1000 + 1));
+        ticketRequest.setPackageId(String.valueOf(seed % 100 + 1));
+        ticketRequest.setTravelDate(TRAVEL_DATE.plusDays(seed % 365).toString());
+        ticketRequest.setTotalMembers(String.valueOf(seed % 5 + 1));
+
+        return ticketRequest;
+    }
+
+    private static CustomerRequest customerRequest(int seed) {
+
+        var customerRequest = new CustomerRequest();
+        customerRequest.setCustomerId(seed + 1);
+        customerRequest.setFirstName("First" + seed);
+        customerRequest.setLastName("Last" + seed);
+        customerRequest.setEmail("customer" + seed + "@example.com");
+        customerRequest.setPassword("password");
+
+        return customerRequest;
+    }
+
+    private static TicketEntity ticketEntity(int seed) {
+
+        var customerEntity = new CustomerEntity();
+        customerEntity.setCustomerId(seed % 1000 + 1);
+        customerEntity.setFirstName("First" + seed);
+        customerEntity.setLastName("Last" + seed);
+        customerEntity.setEmail("customer" + seed + "@example.com");
+
+        var packageEntity = new PackageEntity();
+        packageEntity.setPackageId(seed % 100 + 1);
+        packageEntity.setPackageName("Package" + seed % 100);
+        packageEntity.setTripDuration("2 Days");
+        packageEntity.setCostPerPerson(1500);
+
+        var ticketEntity = new TicketEntity();
+        ticketEntity.setTicketId(seed + 1);
+        ticketEntity.setCustomerId(customerEntity.getCustomerId());
+        ticketEntity.setPackageId(packageEntity.getPackageId());
+        ticketEntity.setTravelDate(TRAVEL_DATE.plusDays(seed % 365));
+        ticketEntity.setTotalMembers(seed % 5 + 1);
+        ticketEntity.setCustomerEntity(customerEntity);
+        ticketEntity.setPackageEntity(packageEntity);
+
+        return ticketEntity;
+    }
+
+    private SearchTicketResource searchTicketResource(int seed) {
+
+        var pagination = new Pagination();
+        pagination.setTotalReturnCount(25);
+        pagination.setTotalRowCount(25);
+
+        var searchTicketResource = new SearchTicketResource();
+        searchTicketResource.setPagination(pagination);
+        searchTicketResource.setTicketDetails(IntStream.range(seed, seed + 25)
+                .mapToObj(i -> travelMapper.mapTicketDetails(ticketEntity(i)))
+                .toList());
+
+        return searchTicketResource;
+    }
+
+    private static void ignoreNotFound(Runnable lookup) {
+
+        try {
+
+            lookup.run();
+        }
+        catch (NotFoundException exception) {
+
+            // Synthetic ids need not exist; the query ran either way.
+        }
+
+    }
+
+    private static void close(Connection connection) {
+
+        try {
+
+            connection.close();
+        }
+        catch (SQLException exception) {
+
+            // The pool discards it.
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+CREATE TABLE customer (
+    customer_id    INT          NOT NULL,
+    first_name     VARCHAR(255),
+    last_name      VARCHAR(255),
+    email          VARCHAR(255),
+    saved_password VARCHAR(255),
+    PRIMARY KEY (customer_id)
+);
+
+CREATE TABLE package (
+    id              INT          NOT NULL,
+    package_name    VARCHAR(255),
+    trip_duration   VARCHAR(255),
+    cost_per_person INT          NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE ticket (
+    ticket_id     INT  NOT NULL,
+    customer_id   INT  NOT NULL,
+    package_id    INT  NOT NULL,
+    travel_date   DATE,
+    total_members INT  NOT NULL,
+    PRIMARY KEY (ticket_id)
+);
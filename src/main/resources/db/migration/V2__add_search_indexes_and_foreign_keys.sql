@@ -0,0 +1,23 @@
+-- Indexes for POST /tickets/search, and the foreign keys that lean on them. Each criterion is an equality filter, and results are sorted by travel date
+-- (the default), customer id or customer first name, then paged.
+
+-- customerId, alone or with other criteria, sorted by travel date without a filesort. Also backs the
+-- customer foreign key and the itinerary lookup.
+CREATE INDEX idx_ticket_customer_travel_date ON ticket (customer_id, travel_date);
+
+-- packageId, sorted by travel date. Also backs the package foreign key.
+CREATE INDEX idx_ticket_package_travel_date ON ticket (package_id, travel_date);
+
+-- travelDate, and the travel-date sort when no narrower index applies.
+CREATE INDEX idx_ticket_travel_date ON ticket (travel_date);
+
+-- email is a subquery on customer ids, which then reach tickets via idx_ticket_customer_travel_date.
+CREATE INDEX idx_customer_email ON customer (email);
+
+-- Sort by customer first name.
+CREATE INDEX idx_customer_first_name ON customer (first_name);
+
+-- Added after the indexes so that they reuse idx_ticket_customer_travel_date and idx_ticket_package_travel_date
+-- instead of creating single-column indexes of their own.
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_customer FOREIGN KEY (customer_id) REFERENCES customer (customer_id);
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_package FOREIGN KEY (package_id) REFERENCES package (id);
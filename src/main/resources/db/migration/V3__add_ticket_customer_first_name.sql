@@ -0,0 +1,15 @@
+-- Sorting search results by customer name joined customer and sorted every matching ticket before the page could be
+-- cut. The ticket now carries a copy of its customer's first name. TicketService sets it when a ticket is written,
+-- and CustomerService rewrites it when a customer's first name changes.
+ALTER TABLE ticket ADD COLUMN customer_first_name VARCHAR(255);
+
+UPDATE ticket SET customer_first_name = (SELECT c.first_name FROM customer c WHERE c.customer_id = ticket.customer_id);
+
+-- packageId or travelDate, sorted by customer name, read in order off the index. customerId and email select a
+-- single customer, whose tickets all share one name.
+CREATE INDEX idx_ticket_package_customer_first_name ON ticket (package_id, customer_first_name);
+CREATE INDEX idx_ticket_travel_date_customer_first_name ON ticket (travel_date, customer_first_name);
+
+-- Both are covered by the indexes above.
+ALTER TABLE ticket DROP INDEX idx_ticket_travel_date;
+ALTER TABLE customer DROP INDEX idx_customer_first_name;
@@ -0,0 +1,18 @@
+-- Tickets whose travel date is past the archival horizon, moved out of ticket by TicketArchiver so that the search
+-- indexes on ticket only hold tickets that can still change. Same columns as ticket, and no foreign keys: history
+-- outlives the customers and packages it mentions.
+CREATE TABLE ticket_history (
+    ticket_id           INT          NOT NULL,
+    customer_id         INT          NOT NULL,
+    package_id          INT          NOT NULL,
+    travel_date         DATE,
+    total_members       INT          NOT NULL,
+    customer_first_name VARCHAR(255),
+    PRIMARY KEY (ticket_id)
+);
+
+-- The search indexes of ticket, for searches that include archived tickets.
+CREATE INDEX idx_ticket_history_customer_travel_date ON ticket_history (customer_id, travel_date);
+CREATE INDEX idx_ticket_history_package_travel_date ON ticket_history (package_id, travel_date);
+CREATE INDEX idx_ticket_history_package_customer_first_name ON ticket_history (package_id, customer_first_name);
+CREATE INDEX idx_ticket_history_travel_date_customer_first_name ON ticket_history (travel_date, customer_first_name);
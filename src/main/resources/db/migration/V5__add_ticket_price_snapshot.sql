@@ -0,0 +1,24 @@
+-- A ticket's cost was computed from its package's current price on every read, so reads had to load the package
+-- and a price change rewrote the cost of bookings already made. The ticket now keeps the price per person it was
+-- booked at, and its total cost. TicketService sets both when a ticket is written.
+-- A ticket whose package no longer exists, possible only once ticket is partitioned and has no foreign keys, has no
+-- price to backfill: the NOT NULL steps then fail, and such tickets must be priced by hand first.
+ALTER TABLE ticket ADD COLUMN cost_per_person INT;
+ALTER TABLE ticket ADD COLUMN total_cost INT;
+
+UPDATE ticket SET cost_per_person = (SELECT p.cost_per_person FROM package p WHERE p.id = ticket.package_id);
+UPDATE ticket SET total_cost = total_members * cost_per_person;
+
+ALTER TABLE ticket MODIFY cost_per_person INT NOT NULL;
+ALTER TABLE ticket MODIFY total_cost INT NOT NULL;
+
+-- Archived tickets carry the same snapshot.
+ALTER TABLE ticket_history ADD COLUMN cost_per_person INT;
+ALTER TABLE ticket_history ADD COLUMN total_cost INT;
+
+UPDATE ticket_history
+SET cost_per_person = (SELECT p.cost_per_person FROM package p WHERE p.id = ticket_history.package_id);
+UPDATE ticket_history SET total_cost = total_members * cost_per_person;
+
+ALTER TABLE ticket_history MODIFY cost_per_person INT NOT NULL;
+ALTER TABLE ticket_history MODIFY total_cost INT NOT NULL;
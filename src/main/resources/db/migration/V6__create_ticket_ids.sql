@@ -0,0 +1,13 @@
+-- Every ticket id handed out and not cancelled, whether the ticket is still in ticket or archived in ticket_history.
+-- Once ticket is partitioned, its primary key includes travel_date and no longer keeps ticket ids unique on its own,
+-- and the archive never did across both tables. TicketService inserts the id here in the same transaction as the
+-- ticket, so two creates of the same id cannot both succeed.
+CREATE TABLE ticket_ids (
+    ticket_id INT NOT NULL,
+    PRIMARY KEY (ticket_id)
+);
+
+INSERT INTO ticket_ids (ticket_id)
+SELECT ticket_id FROM ticket
+UNION
+SELECT ticket_id FROM ticket_history;
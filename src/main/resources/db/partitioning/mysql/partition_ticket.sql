@@ -0,0 +1,45 @@
+-- Converts ticket into a table partitioned by travel_date, one partition per month. MySQL only, and run by hand
+-- once, outside Flyway: the ALTER copies the whole table, and the H2 databases the tests run on cannot partition.
+-- The monthly partitions run from the month of the earliest travel date to the month of the latest one, and at
+-- least to three months from now (the default travels.partitioning.months-ahead), so every row lands in its month and
+-- p_future starts out empty. Set travels.partitioning.enabled=true afterwards; TicketPartitionManager then keeps
+-- splitting the coming months off p_future before any ticket is booked into them.
+
+-- A partitioned table can neither have nor be referenced by foreign keys. TicketService checks that the customer
+-- and the package exist when a ticket is written instead; deleting a customer or a package no longer fails while
+-- tickets still reference it.
+ALTER TABLE ticket DROP FOREIGN KEY fk_ticket_customer;
+ALTER TABLE ticket DROP FOREIGN KEY fk_ticket_package;
+
+-- The first and the last month to get a partition of their own.
+SELECT DATE_FORMAT(LEAST(COALESCE(MIN(travel_date), CURDATE()), CURDATE()), '%Y-%m-01'),
+       DATE_FORMAT(GREATEST(COALESCE(MAX(travel_date), CURDATE()), CURDATE() + INTERVAL 3 MONTH), '%Y-%m-01')
+INTO @first_month, @last_month
+FROM ticket;
+
+-- "PARTITION pYYYYMM VALUES LESS THAN ('<first day of the next month>')" for every month in between.
+SET SESSION group_concat_max_len = 1048576;
+
+WITH RECURSIVE months (month_start) AS (
+    SELECT CAST(@first_month AS DATE)
+    UNION ALL
+    SELECT month_start + INTERVAL 1 MONTH FROM months WHERE month_start < CAST(@last_month AS DATE)
+)
+SELECT GROUP_CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'), ' VALUES LESS THAN (''',
+                    month_start + INTERVAL 1 MONTH, ''')' ORDER BY month_start SEPARATOR ', ')
+INTO @monthly_partitions
+FROM months;
+
+-- Every unique key must contain the partitioning column, so travel_date joins the primary key and cannot be null.
+-- The table then no longer keeps ticket ids unique on its own; the primary key of ticket_ids (V6) does, and
+-- TicketService registers every id there in the transaction that writes the ticket.
+SET @partition_ticket = CONCAT('ALTER TABLE ticket',
+    ' MODIFY travel_date DATE NOT NULL,',
+    ' DROP PRIMARY KEY,',
+    ' ADD PRIMARY KEY (ticket_id, travel_date)',
+    ' PARTITION BY RANGE COLUMNS (travel_date) (',
+    @monthly_partitions, ', PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+
+PREPARE partition_ticket FROM @partition_ticket;
+EXECUTE partition_ticket;
+DEALLOCATE PREPARE partition_ticket;
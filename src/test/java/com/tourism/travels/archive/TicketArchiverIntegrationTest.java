@@ -0,0 +1,198 @@
+package com.tourism.travels.archive;
+
+import com.tourism.travels.exception.BusinessValidationException;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.ticket.TicketController;
+import com.tourism.travels.ticket.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ticket-archiver;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "travels.warmup.enabled=false"})
+class TicketArchiverIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2030-06-15");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TicketController ticketController;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private TicketArchiver ticketArchiver;
+
+    @BeforeEach
+    void setup() {
+
+        jdbcTemplate.update("DELETE FROM ticket_ids");
+        jdbcTemplate.update("DELETE FROM ticket_history");
+        jdbcTemplate.update("DELETE FROM ticket");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("DELETE FROM package");
+
+        jdbcTemplate.update("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                "VALUES (1, 'Sai', 'Teja', 'sai@gmail.com', 'secret')");
+        jdbcTemplate.update("INSERT INTO package (id, package_name, trip_duration, cost_per_person) " +
+                "VALUES (1, 'Goa', '3 Days', 2500)");
+
+        // Tickets 1 to 10 travelled 2 to 11 years before today, tickets 11 and 12 are within the horizon.
+        jdbcTemplate.batchUpdate("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, " +
+                "total_members, customer_first_name, cost_per_person, total_cost) " +
+                "VALUES (?, 1, 1, ?, 2, 'Sai', 2500, 5000)",
+                IntStream.rangeClosed(1, 12)
+                .mapToObj(i -> new Object[] {i, i <= 10 ? TODAY.minusYears(12 - i) : TODAY.minusMonths(13 - i)})
+                .toList());
+
+        var archivalProperties = new ArchivalProperties();
+        archivalProperties.setHorizon(Period.ofYears(1));
+        archivalProperties.setBatchSize(3);
+        archivalProperties.setPause(Duration.ZERO);
+
+        ticketArchiver = new TicketArchiver(jdbcTemplate,
+                Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC), archivalProperties);
+    }
+
+    @Nested
+    class Run {
+
+        @Test
+        void movesTheTicketsPastTheHorizon_inBatches() {
+            // Act
+            var archived = ticketArchiver.run();
+
+            // Assert
+            assertThat(archived).isEqualTo(10);
+            assertThat(jdbcTemplate.queryForList("SELECT ticket_id FROM ticket ORDER BY ticket_id", Integer.class))
+                    .containsExactly(11, 12);
+            assertThat(jdbcTemplate.queryForList("SELECT ticket_id FROM ticket_history ORDER BY ticket_id",
+                    Integer.class))
+                    .containsExactlyElementsOf(IntStream.rangeClosed(1, 10).boxed().toList());
+        }
+
+        @Test
+        void archivesNothing_whenNoTicketIsPastTheHorizon() {
+            // Arrange
+            ticketArchiver.run();
+
+            // Act
+            var archived = ticketArchiver.run();
+
+            // Assert
+            assertThat(archived).isZero();
+        }
+
+    }
+
+    @Nested
+    class Search {
+
+        @Test
+        void findsArchivedTickets_onlyWhenIncludeArchivedIsSet() {
+            // Arrange
+            ticketArchiver.run();
+
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerId("1");
+            searchRequest.getPagination().setPageSize(5);
+
+            // Act
+            var current = ticketController.searchTicket(searchRequest);
+
+            searchRequest.setIncludeArchived(true);
+            var all = ticketController.searchTicket(searchRequest);
+
+            searchRequest.getPagination().setPageNumber(2);
+            var lastPage = ticketController.searchTicket(searchRequest);
+
+            // Assert
+            assertThat(current.getPagination().getTotalReturnCount()).isEqualTo(2);
+            assertThat(all.getPagination().getTotalReturnCount()).isEqualTo(12);
+            assertThat(all.getTicketDetails()).hasSize(5);
+            assertThat(all.getTicketDetails().get(0).getTravelDate()).isEqualTo(TODAY.minusYears(11));
+            assertThat(all.getTicketDetails().get(0).getTotalCostOfTrip()).isEqualTo(5000);
+            assertThat(all.getTicketDetails().get(0).getEmail()).isEqualTo("sai@gmail.com");
+            assertThat(lastPage.getTicketDetails()).hasSize(2);
+            assertThat(lastPage.getTicketDetails().get(1).getTravelDate()).isEqualTo(TODAY.minusMonths(1));
+        }
+
+    }
+
+    @Nested
+    class TicketIds {
+
+        @Test
+        void rejectsTheIdOfAnArchivedTicket() {
+            // Arrange
+            ticketArchiver.run();
+
+            // Act/Assert
+            assertThatThrownBy(() -> ticketService.createTicket(ticket(3)))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("Ticket already exists");
+        }
+
+        @Test
+        void rejectsARegisteredId_andFreesItOnCancellation() {
+            // Arrange
+            ticketService.createTicket(ticket(13));
+
+            // Act/Assert
+            assertThatThrownBy(() -> ticketService.createTicket(ticket(13)))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("Ticket already exists");
+
+            ticketService.deleteTicket(13);
+            ticketService.createTicket(ticket(13));
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket_ids WHERE ticket_id = 13",
+                    Integer.class)).isEqualTo(1);
+        }
+
+        @Test
+        void keepsNoId_whenTheTicketIsNotWritten() {
+            // Arrange
+            var ticketEntity = ticket(13);
+            ticketEntity.setPackageId(99);
+
+            // Act/Assert
+            assertThatThrownBy(() -> ticketService.createTicket(ticketEntity))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("The customerId/packageId is not a valid Id");
+
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ticket_ids", Integer.class)).isZero();
+        }
+
+        private static TicketEntity ticket(int ticketId) {
+
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTicketId(ticketId);
+            ticketEntity.setCustomerId(1);
+            ticketEntity.setPackageId(1);
+            ticketEntity.setTravelDate(TODAY.plusMonths(1));
+            ticketEntity.setTotalMembers(2);
+
+            return ticketEntity;
+        }
+
+    }
+
+}
@@ -17,6 +17,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -96,6 +97,47 @@ class CustomerControllerTest {
 
     }
 
+    @Nested
+    class GetCustomersByIds {
+
+        @Test
+        void works() throws Exception {
+            // Arrange
+            var customerEntity = new CustomerEntity();
+            customerEntity.setCustomerId(123);
+
+            var customerEntities = Collections.singletonList(customerEntity);
+            var customerResources = Collections.singletonList(getCustomerResource());
+
+            when(customerService.getCustomerEntitiesByIds(List.of(123, 456))).thenReturn(customerEntities);
+            when(travelMapper.toCustomerResources(customerEntities)).thenReturn(customerResources);
+
+            // Act/Assert
+            mockMvc.perform(post("/customers/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BATCH_REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(CUSTOMER_BATCH_RESPONSE));
+
+            verify(customerService).getCustomerEntitiesByIds(List.of(123, 456));
+            verify(travelMapper).toCustomerResources(customerEntities);
+
+            verifyNoMoreInteractions(customerService, travelMapper);
+        }
+
+        @Test
+        void return400BadException_whenIdsAreEmpty() throws Exception {
+            // Act/Assert
+            mockMvc.perform(post("/customers/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"ids\": []}"))
+                    .andExpect(status().isBadRequest());
+
+            verifyNoInteractions(customerService, travelMapper);
+        }
+
+    }
+
     @Nested
     class SignUpCustomer {
 
@@ -293,6 +335,27 @@ class CustomerControllerTest {
                       }
                     ]""";
 
+    private static final String BATCH_REQUEST =
+            """
+                    {
+                      "ids": [123, 456]
+                    }""";
+
+    private static final String CUSTOMER_BATCH_RESPONSE =
+            """
+                    {
+                      "found": [
+                        {
+                          "customerId": 123,
+                          "firstName": "firstName",
+                          "lastName": "lastName",
+                          "email": "email@gmail.com",
+                          "password": "savedPassword"
+                        }
+                      ],
+                      "missingIds": [456]
+                    }""";
+
     private static final String CUSTOMER_REQUEST =
             """
                     {
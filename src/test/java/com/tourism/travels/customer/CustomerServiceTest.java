@@ -2,8 +2,12 @@ package com.tourism.travels.customer;
 
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.loader.BatchLoader;
+import com.tourism.travels.loader.SingleFlight;
 import com.tourism.travels.sql.CustomerEntity;
 import com.tourism.travels.sql.CustomerRepository;
+import com.tourism.travels.sql.TicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,12 +33,19 @@ class CustomerServiceTest {
     @Mock
     private CustomerRepository customerRepository;
 
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private BatchLoader<Integer, CustomerEntity> customerBatchLoader;
+
     private CustomerService customerService;
 
     @BeforeEach
     void setup() {
 
-        customerService = new CustomerService(travelMapper, customerRepository);
+        customerService = new CustomerService(travelMapper, customerRepository, ticketRepository, customerBatchLoader,
+                new SingleFlight<>("customer", Duration.ofSeconds(1), () -> false, new SimpleMeterRegistry()));
     }
 
     @Nested
@@ -67,7 +80,7 @@ class CustomerServiceTest {
             var customerId = 123;
             var customerEntity = new CustomerEntity();
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.of(customerEntity));
+            when(customerBatchLoader.get(customerId)).thenReturn(Optional.of(customerEntity));
 
             // Act
             var returnedCustomerEntity = customerService.getCustomerEntityById(customerId);
@@ -75,9 +88,9 @@ class CustomerServiceTest {
             // Assert
             assertThat(returnedCustomerEntity).isEqualTo(customerEntity);
 
-            verify(customerRepository).findById(customerId);
+            verify(customerBatchLoader).get(customerId);
 
-            verifyNoMoreInteractions(customerRepository);
+            verifyNoMoreInteractions(customerBatchLoader, customerRepository);
         }
 
         @Test
@@ -85,7 +98,7 @@ class CustomerServiceTest {
             // Arrange
             var customerId = 123;
 
-            when(customerRepository.findById(customerId)).thenReturn(Optional.empty());
+            when(customerBatchLoader.get(customerId)).thenReturn(Optional.empty());
 
             // Act/ Assert
             assertThatThrownBy(() -> customerService.getCustomerEntityById(customerId))
@@ -94,6 +107,30 @@ class CustomerServiceTest {
 
     }
 
+    @Nested
+    class GetCustomerEntitiesByIds {
+
+        @Test
+        void works() {
+            // Arrange
+            var ids = List.of(123, 456);
+            var entities = Collections.singletonList(new CustomerEntity());
+
+            when(customerRepository.findAllById(ids)).thenReturn(entities);
+
+            // Act
+            var returnedEntities = customerService.getCustomerEntitiesByIds(ids);
+
+            // Assert
+            assertThat(returnedEntities).isEqualTo(entities);
+
+            verify(customerRepository).findAllById(ids);
+
+            verifyNoMoreInteractions(customerRepository);
+        }
+
+    }
+
     @Nested
     class SignUp {
 
@@ -149,6 +186,30 @@ class CustomerServiceTest {
             verify(customerRepository).save(customerEntity);
 
             verifyNoMoreInteractions(travelMapper, customerRepository);
+            verifyNoInteractions(ticketRepository);
+        }
+
+        @Test
+        void copiesTheNewFirstNameToTheCustomersTickets_whenTheFirstNameChanges() {
+            // Arrange
+            var customerEntity = new CustomerEntity();
+            customerEntity.setCustomerId(123);
+            customerEntity.setFirstName("Sai");
+
+            var customerEntityWithUpdates = new CustomerEntity();
+            customerEntityWithUpdates.setCustomerId(123);
+            customerEntityWithUpdates.setFirstName("Ravi");
+
+            when(customerRepository.findById(123)).thenReturn(Optional.of(customerEntity));
+
+            // Act
+            customerService.updateCustomer(customerEntityWithUpdates);
+
+            // Assert
+            verify(customerRepository).save(customerEntityWithUpdates);
+            verify(ticketRepository).updateCustomerFirstName(123, "Ravi");
+
+            verifyNoMoreInteractions(ticketRepository);
         }
 
         @Test
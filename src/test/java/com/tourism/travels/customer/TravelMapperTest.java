@@ -1,6 +1,5 @@
 package com.tourism.travels.customer;
 
-import com.tourism.travels.sql.PackageEntity;
 import com.tourism.travels.sql.TicketEntity;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,12 +16,9 @@ class TravelMapperTest {
         @Test
         void works() {
             // Arrange
-            var packageEntity = new PackageEntity();
-            packageEntity.setCostPerPerson(1500);
-
             var ticketEntity = new TicketEntity();
             ticketEntity.setTotalMembers(2);
-            ticketEntity.setPackageEntity(packageEntity);
+            ticketEntity.setTotalCost(3000);
 
             // Act
             var searchTicketResource = travelMapper.mapTicketDetails(ticketEntity);
@@ -33,4 +29,47 @@ class TravelMapperTest {
 
     }
 
+    @Nested
+    class ToTicketResource {
+
+        @Test
+        void takesTheTotalCostBookedOnTheTicket() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTotalMembers(2);
+            ticketEntity.setTotalCost(3000);
+
+            // Act
+            var ticketResource = travelMapper.toTicketResource(ticketEntity);
+
+            // Assert
+            assertThat(ticketResource.getTotalCost()).isEqualTo(3000);
+        }
+
+    }
+
+    @Nested
+    class UpdateTicketEntity {
+
+        @Test
+        void leavesTheBookedPriceAlone() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setCostPerPerson(1500);
+            ticketEntity.setTotalCost(3000);
+
+            var ticketEntityWithUpdates = new TicketEntity();
+            ticketEntityWithUpdates.setTotalMembers(4);
+
+            // Act
+            travelMapper.updateTicketEntity(ticketEntity, ticketEntityWithUpdates);
+
+            // Assert
+            assertThat(ticketEntity.getTotalMembers()).isEqualTo(4);
+            assertThat(ticketEntity.getCostPerPerson()).isEqualTo(1500);
+            assertThat(ticketEntity.getTotalCost()).isEqualTo(3000);
+        }
+
+    }
+
 }
@@ -0,0 +1,86 @@
+package com.tourism.travels.datasource;
+
+import com.tourism.travels.jdbc.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPoolsTest {
+
+    private final List<HikariDataSource> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+
+        created.forEach(HikariDataSource::close);
+    }
+
+    @Nested
+    class Of {
+
+        @Test
+        void findsEveryRoutingTarget_primaryFirst_behindTheLazyProxyAndItsWrappers() {
+            // Arrange
+            var primary = pool("primary");
+            var replica0 = pool("replica-0");
+            var replica1 = pool("replica-1");
+
+            var replicaSet = new ReplicaSet(List.of(new Replica("replica-0", replica0),
+                    new Replica("replica-1", replica1)));
+            var routingDataSource = new ReadWriteRoutingDataSource(primary, replicaSet,
+                    new ReadYourWrites(Duration.ofMinutes(1)));
+            var dataSource = new InstrumentedDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+
+            // Act
+            var pools = ConnectionPools.of(dataSource);
+
+            // Assert
+            assertThat(pools).hasSize(3).startsWith(primary).contains(replica0, replica1);
+        }
+
+        @Test
+        void findsTheSinglePool_withoutRouting() {
+            // Arrange
+            var pool = pool("single");
+
+            // Act
+            var pools = ConnectionPools.of(new InstrumentedDataSource(pool));
+
+            // Assert
+            assertThat(pools).containsExactly(pool);
+        }
+
+        @Test
+        void findsNothing_whenThereIsNoHikariPool() {
+            // Act
+            var pools = ConnectionPools.of(new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID()));
+
+            // Assert
+            assertThat(pools).isEmpty();
+        }
+
+    }
+
+    private HikariDataSource pool(String name) {
+
+        var pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID());
+        pool.setMaximumPoolSize(2);
+
+        created.add(pool);
+
+        return pool;
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.tourism.travels.datasource;
+
+import com.tourism.travels.loader.BatchLoader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private Replica replica;
+
+    private ReadYourWrites readYourWrites;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        var primary = embeddedDatabase("primary");
+        replica = new Replica("replica-0", embeddedDatabase("replica"));
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+
+        var replicaSet = new ReplicaSet(List.of(replica));
+        var routingDataSource = new ReadWriteRoutingDataSource(primary, replicaSet, readYourWrites);
+        var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Nested
+    class DetermineCurrentLookupKey {
+
+        @Test
+        void routesReadOnlyTransactionsToTheReplica() {
+            // Act
+            var node = readNode(true);
+
+            // Assert
+            assertThat(node).isEqualTo("replica");
+        }
+
+        @Test
+        void routesReadWriteTransactionsToThePrimary() {
+            // Act
+            var node = readNode(false);
+
+            // Assert
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        void fallsBackToThePrimary_whenTheReplicaIsUnhealthy() {
+            // Arrange
+            replica.setHealthy(false);
+
+            // Act
+            var node = readNode(true);
+
+            // Assert
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        void routesReadsToThePrimary_withinTheReadYourWritesWindowOfTheSameClient() {
+            // Arrange
+            readYourWrites.bind("123");
+            readNode(false);
+
+            // Act
+            var node = readNode(true);
+
+            // Assert
+            assertThat(node).isEqualTo("primary");
+
+            readYourWrites.bind("456");
+            assertThat(readNode(true)).isEqualTo("replica");
+            readYourWrites.clear();
+        }
+
+        @Test
+        void routesBatchedReadsToThePrimary_withinTheReadYourWritesWindowOfTheSameClient() {
+            // Arrange
+            var scheduler = Executors.newSingleThreadScheduledExecutor();
+            var batchLoader = new BatchLoader<Integer, String>("node", ids -> Map.of(1, readNode(true)),
+                    Duration.ofMillis(1), 10, Duration.ofSeconds(5), readYourWrites::isPinnedToPrimary, scheduler,
+                    new SimpleMeterRegistry());
+
+            readYourWrites.bind("123");
+            readNode(false);
+
+            try {
+
+                // Act
+                var node = batchLoader.get(1);
+
+                // Assert
+                assertThat(node).contains("primary");
+
+                readYourWrites.bind("456");
+                assertThat(batchLoader.get(1)).contains("replica");
+            }
+            finally {
+
+                readYourWrites.clear();
+                scheduler.shutdownNow();
+            }
+        }
+
+    }
+
+    private String readNode(boolean readOnly) {
+
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource embeddedDatabase(String name) {
+
+        var url = "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        var dataSource = new DriverManagerDataSource(url);
+
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+
+        return dataSource;
+    }
+
+}
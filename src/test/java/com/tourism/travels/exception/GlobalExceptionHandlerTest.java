@@ -14,6 +14,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -59,7 +60,24 @@ class GlobalExceptionHandlerTest {
         mockMvc.perform(post("/test")
                         .content(json)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isBadRequest());
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"message\": \"already exists\"}", true));
+    }
+
+    @Test
+    void businessValidationException_withMessage() throws Exception {
+        // Arrange
+        var json = createJson();
+
+        when(mock.foo()).thenThrow(new BusinessValidationException("Ticket already exists"));
+
+        // Act/Assert
+        mockMvc.perform(post("/test")
+                        .content(json)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().json("{\"message\": \"Ticket already exists\"}", true));
     }
 
     @Test
@@ -73,7 +91,9 @@ class GlobalExceptionHandlerTest {
         mockMvc.perform(post("/test")
                         .content(json)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"message\": \"not found\"}", true));
     }
 
     @Test
@@ -0,0 +1,97 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.customer.TravelMapper;
+import com.tourism.travels.exception.GlobalExceptionHandler;
+import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.pojo.CustomerResource;
+import com.tourism.travels.pojo.ItineraryResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ItineraryControllerTest {
+
+    @Mock
+    private TravelMapper travelMapper;
+
+    @Mock
+    private ItineraryService itineraryService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+
+        var itineraryController = new ItineraryController(travelMapper, itineraryService);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(itineraryController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Nested
+    class GetItinerary {
+
+        @Test
+        void works() throws Exception {
+            // Arrange
+            var itinerary = new Itinerary(null, Collections.emptyList(), Collections.emptyList());
+
+            var customerResource = new CustomerResource();
+            customerResource.setCustomerId(123);
+
+            var itineraryResource = new ItineraryResource();
+            itineraryResource.setCustomer(customerResource);
+            itineraryResource.setTickets(Collections.emptyList());
+            itineraryResource.setPackages(Collections.emptyList());
+
+            when(itineraryService.getItinerary(123)).thenReturn(itinerary);
+            when(travelMapper.toItineraryResource(itinerary)).thenReturn(itineraryResource);
+
+            // Act/Assert
+            mockMvc.perform(get("/customers/123/itinerary"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(ITINERARY_RESPONSE));
+
+            verify(itineraryService).getItinerary(123);
+            verify(travelMapper).toItineraryResource(itinerary);
+
+            verifyNoMoreInteractions(itineraryService, travelMapper);
+        }
+
+        @Test
+        void returns404_whenCustomerIsNotFound() throws Exception {
+            // Arrange
+            when(itineraryService.getItinerary(123)).thenThrow(new NotFoundException());
+
+            // Act/Assert
+            mockMvc.perform(get("/customers/123/itinerary"))
+                    .andExpect(status().isNotFound());
+        }
+
+    }
+
+    private static final String ITINERARY_RESPONSE =
+            """
+                    {
+                      "customer": {
+                        "customerId": 123
+                      },
+                      "tickets": [],
+                      "packages": []
+                    }""";
+
+}
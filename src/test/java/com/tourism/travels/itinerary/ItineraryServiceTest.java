@@ -0,0 +1,115 @@
+package com.tourism.travels.itinerary;
+
+import com.tourism.travels.customer.CustomerService;
+import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.packages.PackageService;
+import com.tourism.travels.sql.CustomerEntity;
+import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.ticket.TicketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItineraryServiceTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private TicketService ticketService;
+
+    @Mock
+    private PackageService packageService;
+
+    private ItineraryService itineraryService;
+
+    @BeforeEach
+    void setup() {
+
+        itineraryService = new ItineraryService(customerService, ticketService, packageService,
+                Executors.newFixedThreadPool(2));
+    }
+
+    @Nested
+    class GetItinerary {
+
+        @Test
+        void works() {
+            // Arrange
+            var customerId = 123;
+            var customerEntity = new CustomerEntity();
+
+            var firstTicket = new TicketEntity();
+            firstTicket.setPackageId(456);
+
+            var secondTicket = new TicketEntity();
+            secondTicket.setPackageId(456);
+
+            var ticketEntities = List.of(firstTicket, secondTicket);
+            var packageEntities = Collections.singletonList(new PackageEntity());
+
+            when(customerService.getCustomerEntityById(customerId)).thenReturn(customerEntity);
+            when(ticketService.getTicketEntitiesByCustomerId(customerId)).thenReturn(ticketEntities);
+            when(packageService.getPackageEntitiesByIds(List.of(456))).thenReturn(packageEntities);
+
+            // Act
+            var itinerary = itineraryService.getItinerary(customerId);
+
+            // Assert
+            assertThat(itinerary.customerEntity()).isEqualTo(customerEntity);
+            assertThat(itinerary.ticketEntities()).isEqualTo(ticketEntities);
+            assertThat(itinerary.packageEntities()).isEqualTo(packageEntities);
+
+            verify(customerService).getCustomerEntityById(customerId);
+            verify(ticketService).getTicketEntitiesByCustomerId(customerId);
+            verify(packageService).getPackageEntitiesByIds(List.of(456));
+
+            verifyNoMoreInteractions(customerService, ticketService, packageService);
+        }
+
+        @Test
+        void doesNotLoadPackages_whenCustomerHasNoTickets() {
+            // Arrange
+            var customerId = 123;
+
+            when(customerService.getCustomerEntityById(customerId)).thenReturn(new CustomerEntity());
+            when(ticketService.getTicketEntitiesByCustomerId(customerId)).thenReturn(Collections.emptyList());
+
+            // Act
+            var itinerary = itineraryService.getItinerary(customerId);
+
+            // Assert
+            assertThat(itinerary.packageEntities()).isEmpty();
+
+            verifyNoInteractions(packageService);
+        }
+
+        @Test
+        void throwsNotFoundException_whenCustomerIsNotFound() {
+            // Arrange
+            var customerId = 123;
+
+            when(customerService.getCustomerEntityById(customerId)).thenThrow(new NotFoundException());
+            lenient().when(ticketService.getTicketEntitiesByCustomerId(customerId)).thenReturn(Collections.emptyList());
+
+            // Act/Assert
+            assertThatThrownBy(() -> itineraryService.getItinerary(customerId))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.tourism.travels.jdbc;
+
+import com.tourism.travels.customer.CustomerController;
+import com.tourism.travels.customer.CustomerService;
+import com.tourism.travels.customer.TravelMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class DbStatsInterceptorTest {
+
+    @Mock
+    private CustomerService customerService;
+
+    @Mock
+    private TravelMapper travelMapper;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+
+        var customerController = new CustomerController(travelMapper, customerService);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(customerController)
+                .addInterceptors(new DbStatsInterceptor(meterRegistry,
+                        new StatementBudget(new StatementBudgetProperties(), meterRegistry), true))
+                .setControllerAdvice(new DbStatsHeaderAdvice())
+                .build();
+    }
+
+    @Nested
+    class AfterCompletion {
+
+        @Test
+        void recordsMetricsAndHeaders_taggedByControllerMethod() throws Exception {
+            // Arrange
+            when(customerService.getCustomerDetails()).thenAnswer(invocation -> {
+                DbRequestStats.current().recordStatement("select * from customer", 2_000_000);
+                DbRequestStats.current().recordRow();
+                return Collections.emptyList();
+            });
+
+            // Act/Assert
+            mockMvc.perform(get("/customers"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-DB-Statements", "1"))
+                    .andExpect(header().string("X-DB-Time", "2.0ms"));
+
+            var statements = meterRegistry.get("travels.db.request.statements")
+                    .tag("handler", "CustomerController.getCustomers")
+                    .summary();
+
+            assertThat(statements.totalAmount()).isEqualTo(1);
+            assertThat(DbRequestStats.current()).isNull();
+        }
+
+        @Test
+        void recordsHeaders_forABodilessResponse() throws Exception {
+            // Arrange
+            doAnswer(invocation -> {
+                DbRequestStats.current().recordStatement("delete from customer where customer_id = ?", 1_000_000);
+                return null;
+            }).when(customerService).deleteByCustomerId(3);
+
+            // Act/Assert
+            mockMvc.perform(delete("/customers/3"))
+                    .andExpect(status().isNoContent())
+                    .andExpect(header().string("X-DB-Statements", "1"))
+                    .andExpect(header().string("X-DB-Time", "1.0ms"));
+        }
+
+    }
+
+}
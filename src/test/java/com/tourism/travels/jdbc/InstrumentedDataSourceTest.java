@@ -0,0 +1,173 @@
+package com.tourism.travels.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        var url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        var dataSource = new InstrumentedDataSource(new DriverManagerDataSource(url));
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE customer (customer_id INT)");
+        jdbcTemplate.update("INSERT INTO customer VALUES (1), (2), (3)");
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        DbRequestStats.end();
+    }
+
+    @Nested
+    class GetConnection {
+
+        @Test
+        void recordsStatementsRowsAndTime_forTheCurrentRequest() {
+            // Arrange
+            var dbRequestStats = DbRequestStats.start("CustomerController.getCustomers");
+
+            // Act
+            jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class);
+            jdbcTemplate.queryForObject("SELECT customer_id FROM customer WHERE customer_id = ?", Integer.class, 2);
+
+            // Assert
+            assertThat(dbRequestStats.getStatements()).isEqualTo(2);
+            assertThat(dbRequestStats.getRowsFetched()).isEqualTo(4);
+            assertThat(dbRequestStats.getJdbcNanos()).isPositive();
+        }
+
+        @Test
+        void recordsNothing_outsideOfARequest() {
+            // Act
+            var customerIds = jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class);
+
+            // Assert
+            assertThat(customerIds).containsExactly(1, 2, 3);
+            assertThat(DbRequestStats.current()).isNull();
+        }
+
+        @Test
+        void recordsStatementsOfAPropagatedTask_onAnotherThread() throws Exception {
+            // Arrange
+            var dbRequestStats = DbRequestStats.start("ItineraryController.getItinerary");
+
+            var thread = new Thread(DbRequestStats.propagate(
+                    () -> jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class)));
+
+            // Act
+            thread.start();
+            thread.join();
+
+            // Assert
+            assertThat(dbRequestStats.getStatements()).isEqualTo(1);
+            assertThat(dbRequestStats.getRowsFetched()).isEqualTo(3);
+        }
+
+        @Test
+        void chargesSharedWork_toEveryRequestSharingIt() {
+            // Arrange
+            var first = DbRequestStats.start("CustomerController.getCustomerById");
+            var second = DbRequestStats.start("CustomerController.getCustomerById");
+            DbRequestStats.end();
+
+            // Act
+            DbRequestStats.callSharedBy(List.of(first, second),
+                    () -> jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class));
+
+            // Assert
+            assertThat(first.getStatements()).isEqualTo(1);
+            assertThat(second.getStatements()).isEqualTo(1);
+            assertThat(second.getRowsFetched()).isEqualTo(3);
+            assertThat(DbRequestStats.current()).isNull();
+        }
+
+    }
+
+    @Nested
+    class CheckBudget {
+
+        @Test
+        void rejectsTheStatement_whenTheBudgetIsExhaustedInStrictMode() {
+            // Arrange
+            var statementBudget = statementBudget(true);
+            DbRequestStats.start("CustomerController.getCustomerById", 1, statementBudget);
+
+            jdbcTemplate.queryForObject("SELECT customer_id FROM customer WHERE customer_id = ?", Integer.class, 1);
+
+            // Act/Assert
+            assertThatThrownBy(() -> jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class))
+                    .isInstanceOf(StatementBudgetExceededException.class)
+                    .hasMessageContaining("CustomerController.getCustomerById exceeded its budget of 1 statements");
+            assertThat(breaches()).isEqualTo(1);
+        }
+
+        @Test
+        void runsTheStatementAndCountsTheBreach_whenNotStrict() {
+            // Arrange
+            var dbRequestStats = DbRequestStats.start("CustomerController.getCustomerById", 1, statementBudget(false));
+
+            // Act
+            jdbcTemplate.queryForObject("SELECT customer_id FROM customer WHERE customer_id = ?", Integer.class, 1);
+            var customerIds = jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class);
+
+            // Assert
+            assertThat(customerIds).containsExactly(1, 2, 3);
+            assertThat(dbRequestStats.getStatements()).isEqualTo(2);
+            assertThat(breaches()).isEqualTo(1);
+        }
+
+        @Test
+        void rejectsSharedWork_whenAnyRequestSharingItIsOverBudget() {
+            // Arrange
+            var statementBudget = statementBudget(true);
+            var first = DbRequestStats.start("CustomerController.getCustomers", 5, statementBudget);
+            var second = DbRequestStats.start("CustomerController.getCustomerById", 1, statementBudget);
+
+            jdbcTemplate.queryForObject("SELECT customer_id FROM customer WHERE customer_id = ?", Integer.class, 1);
+            DbRequestStats.end();
+
+            // Act/Assert
+            assertThatThrownBy(() -> DbRequestStats.callSharedBy(List.of(first, second),
+                    () -> jdbcTemplate.queryForList("SELECT customer_id FROM customer", Integer.class)))
+                    .isInstanceOf(StatementBudgetExceededException.class)
+                    .hasMessageContaining("CustomerController.getCustomerById exceeded its budget of 1 statements");
+        }
+
+    }
+
+    private StatementBudget statementBudget(boolean strict) {
+
+        var statementBudgetProperties = new StatementBudgetProperties();
+        statementBudgetProperties.setStrict(strict);
+
+        return new StatementBudget(statementBudgetProperties, meterRegistry);
+    }
+
+    private double breaches() {
+
+        return meterRegistry.get("travels.db.statement.budget.breaches")
+                .tag("handler", "CustomerController.getCustomerById")
+                .counter()
+                .count();
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.tourism.travels.jdbc;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@ActiveProfiles("strict")
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:statement-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "travels.db-stats.debug-headers=true"})
+class StatementBudgetIntegrationTest {
+
+    private static final String TRAVEL_DATE = LocalDate.now().plusDays(10).toString();
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        jdbcTemplate.update("DELETE FROM ticket_ids");
+        jdbcTemplate.update("DELETE FROM ticket");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("DELETE FROM package");
+
+        jdbcTemplate.update("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                "VALUES (1, 'Sai', 'Kumar', 'sai@gmail.com', 'secret'), (2, 'Ravi', 'Teja', 'ravi@gmail.com', 'secret'), " +
+                "(3, 'Anu', 'Rao', 'anu@gmail.com', 'secret')");
+        jdbcTemplate.update("INSERT INTO package (id, package_name, trip_duration, cost_per_person) " +
+                "VALUES (1, 'Agra', '2 Days', 1500), (2, 'Goa', '4 Days', 5000), (3, 'Ooty', '3 Days', 2500)");
+        jdbcTemplate.update("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, total_members, " +
+                "customer_first_name, cost_per_person, total_cost) VALUES (1, 1, 1, ?, 2, 'Sai', 1500, 3000), " +
+                "(2, 1, 2, ?, 3, 'Sai', 5000, 15000), (3, 2, 2, ?, 1, 'Ravi', 5000, 5000)",
+                TRAVEL_DATE, TRAVEL_DATE, TRAVEL_DATE);
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource(delimiter = '|', value = {
+            "GET    | /customers                  |",
+            "GET    | /customers/1                |",
+            "POST   | /customers/batch            | {\"ids\": [1, 2, 3]}",
+            "GET    | /customers/1/itinerary      |",
+            "PUT    | /customers/signup           | {\"customerId\": 4, \"firstName\": \"Vijay\", \"email\": \"vijay@gmail.com\", \"password\": \"secret\"}",
+            "PUT    | /customers/update           | {\"customerId\": 2, \"firstName\": \"Ravi\", \"email\": \"ravi@gmail.com\", \"password\": \"changed\"}",
+            "DELETE | /customers/3                |",
+            "GET    | /packages                   |",
+            "GET    | /packages/1                 |",
+            "POST   | /packages/batch             | {\"ids\": [1, 2, 3]}",
+            "PUT    | /packages/add               | {\"packageId\": 4, \"packageName\": \"Kerala\", \"tripDuration\": \"3 Days\", \"costPerPerson\": 2500}",
+            "PUT    | /packages/update            | {\"packageId\": 1, \"packageName\": \"Agra\", \"tripDuration\": \"3 Days\", \"costPerPerson\": 2000}",
+            "DELETE | /packages/3                 |",
+            "GET    | /tickets                    |",
+            "GET    | /tickets/1                  |",
+            "POST   | /tickets/batch              | {\"ids\": [1, 2, 4]}",
+            "POST   | /tickets/search             | {\"customerId\": \"1\"}",
+            "POST   | /tickets/search             | {\"email\": \"sai@gmail.com\", \"sortResultsBy\": {\"fieldName\": \"CUSTOMER_NAME\", \"orderBy\": \"DESC\"}}",
+            "POST   | /tickets/search             | {\"packageId\": \"2\", \"pagination\": {\"pageNumber\": 0, \"pageSize\": 1}}",
+            "POST   | /tickets/search             | {\"travelDate\": \"TRAVEL_DATE\", \"facets\": [\"PACKAGE_ID\", \"TRAVEL_MONTH\", \"CUSTOMER_ID\"]}",
+            "PUT    | /tickets/create             | {\"ticketId\": \"4\", \"customerId\": \"2\", \"packageId\": \"1\", \"travelDate\": \"TRAVEL_DATE\", \"totalMembers\": \"2\"}",
+            "PUT    | /tickets/update             | {\"ticketId\": \"1\", \"customerId\": \"1\", \"packageId\": \"2\", \"travelDate\": \"TRAVEL_DATE\", \"totalMembers\": \"4\"}",
+            "DELETE | /tickets/3                  |"})
+    void staysWithinTheStatementBudget(String method, String path, String body) {
+        // Arrange
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        var request = new HttpEntity<>(body == null ? null : body.replace("TRAVEL_DATE", TRAVEL_DATE), headers);
+
+        // Act
+        var response = testRestTemplate.exchange(path, HttpMethod.valueOf(method), request, String.class);
+
+        // Assert
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(response.getHeaders().getFirst("X-DB-Statements")).isNotNull().isNotEqualTo("0");
+    }
+
+    @Test
+    void sendsTheDebugHeaders_onPreEncodedErrorResponses() {
+        // Act
+        var response = testRestTemplate.getForEntity("/customers/99", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isEqualTo("{\"message\":\"not found\"}");
+        assertThat(response.getHeaders().getFirst("X-DB-Statements")).isNotNull().isNotEqualTo("0");
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.tourism.travels.limit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimitTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Nested
+    class OnSample {
+
+        @Test
+        void growsTheLimit_whenLatencyStaysFlatAtTheLimit() {
+            // Arrange
+            var adaptiveLimit = new AdaptiveLimit(20, 4, 200, 1.5, 0.2, 0.9);
+
+            // Act
+            for (var i = 0; i < 100; i++) {
+
+                adaptiveLimit.onSample(10 * MILLIS, adaptiveLimit.getLimit(), false);
+            }
+
+            // Assert
+            assertThat(adaptiveLimit.getLimit()).isGreaterThan(20);
+        }
+
+        @Test
+        void keepsTheLimit_whenTrafficStaysWellBelowIt() {
+            // Arrange
+            var adaptiveLimit = new AdaptiveLimit(20, 4, 200, 1.5, 0.2, 0.9);
+
+            // Act
+            for (var i = 0; i < 100; i++) {
+
+                adaptiveLimit.onSample(10 * MILLIS, 2, false);
+            }
+
+            // Assert
+            assertThat(adaptiveLimit.getLimit()).isEqualTo(20);
+        }
+
+        @Test
+        void shrinksTheLimit_whenLatencyRisesBeyondTheTolerance() {
+            // Arrange
+            var adaptiveLimit = new AdaptiveLimit(100, 4, 200, 1.5, 0.2, 0.9);
+
+            for (var i = 0; i < 600; i++) {
+
+                adaptiveLimit.onSample(10 * MILLIS, 2, false);
+            }
+
+            // Act
+            for (var i = 0; i < 50; i++) {
+
+                adaptiveLimit.onSample(100 * MILLIS, adaptiveLimit.getLimit(), false);
+            }
+
+            // Assert
+            assertThat(adaptiveLimit.getLimit()).isLessThan(50);
+        }
+
+        @Test
+        void backsOff_whenARequestIsDropped() {
+            // Arrange
+            var adaptiveLimit = new AdaptiveLimit(100, 4, 200, 1.5, 0.2, 0.9);
+
+            // Act
+            adaptiveLimit.onSample(10 * MILLIS, 100, true);
+
+            // Assert
+            assertThat(adaptiveLimit.getLimit()).isEqualTo(90);
+        }
+
+        @Test
+        void staysWithinTheBounds() {
+            // Arrange
+            var adaptiveLimit = new AdaptiveLimit(10, 4, 12, 1.5, 0.2, 0.5);
+
+            // Act
+            for (var i = 0; i < 100; i++) {
+
+                adaptiveLimit.onSample(10 * MILLIS, adaptiveLimit.getLimit(), false);
+            }
+
+            var grown = adaptiveLimit.getLimit();
+
+            for (var i = 0; i < 10; i++) {
+
+                adaptiveLimit.onSample(10 * MILLIS, 1, true);
+            }
+
+            // Assert
+            assertThat(grown).isEqualTo(12);
+            assertThat(adaptiveLimit.getLimit()).isEqualTo(4);
+        }
+
+    }
+
+}
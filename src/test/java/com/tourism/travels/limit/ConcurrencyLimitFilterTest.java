@@ -0,0 +1,178 @@
+package com.tourism.travels.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConcurrencyLimiter concurrencyLimiter = new ConcurrencyLimiter(
+            new AdaptiveLimit(4, 4, 4, 1.5, 0.2, 0.9), Map.of(Priority.BULK, 0.5), meterRegistry);
+
+    private final ConcurrencyLimitFilter concurrencyLimitFilter = new ConcurrencyLimitFilter(concurrencyLimiter,
+            paths(), "1");
+
+    @Nested
+    class DoFilter {
+
+        @Test
+        void passesTheRequestOn_andReleasesItsPermit_whenUnderTheLimit() throws Exception {
+            // Arrange
+            var request = request("/tickets/create");
+            var response = new MockHttpServletResponse();
+            var filterChain = new MockFilterChain();
+
+            // Act
+            concurrencyLimitFilter.doFilter(request, response, filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isSameAs(request);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(concurrencyLimiter.getInFlight()).isZero();
+        }
+
+        @Test
+        void rejectsBulkRequests_onceTheyFillTheirShare() throws Exception {
+            // Arrange
+            concurrencyLimiter.tryAcquire(Priority.BULK);
+            concurrencyLimiter.tryAcquire(Priority.BULK);
+
+            var response = new MockHttpServletResponse();
+            var filterChain = new MockFilterChain();
+
+            // Act
+            concurrencyLimitFilter.doFilter(request("/tickets/search"), response, filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isNull();
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+            assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"overloaded\"}");
+            assertThat(rejected("bulk")).isEqualTo(1);
+        }
+
+        @Test
+        void admitsBookings_whileBulkRequestsAreShed() throws Exception {
+            // Arrange
+            concurrencyLimiter.tryAcquire(Priority.BULK);
+            concurrencyLimiter.tryAcquire(Priority.BULK);
+
+            var response = new MockHttpServletResponse();
+            var filterChain = new MockFilterChain();
+
+            // Act
+            concurrencyLimitFilter.doFilter(request("/tickets/create"), response, filterChain);
+
+            // Assert
+            assertThat(filterChain.getRequest()).isNotNull();
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        void rejectsEveryClass_atTheFullLimit() throws Exception {
+            // Arrange
+            for (var i = 0; i < 4; i++) {
+
+                concurrencyLimiter.tryAcquire(Priority.CRITICAL);
+            }
+
+            var response = new MockHttpServletResponse();
+
+            // Act
+            concurrencyLimitFilter.doFilter(request("/tickets/create"), response, new MockFilterChain());
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(503);
+            assertThat(rejected("critical")).isEqualTo(1);
+        }
+
+        @Test
+        void neverShedsActuatorRequests() throws Exception {
+            // Arrange
+            for (var i = 0; i < 4; i++) {
+
+                concurrencyLimiter.tryAcquire(Priority.CRITICAL);
+            }
+
+            var response = new MockHttpServletResponse();
+
+            // Act
+            concurrencyLimitFilter.doFilter(request("/actuator/health"), response, new MockFilterChain());
+
+            // Assert
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        @Test
+        void releasesThePermit_whenTheChainThrows() {
+            // Arrange
+            FilterChain filterChain = (request, response) -> { throw new IllegalStateException("boom"); };
+
+            // Act
+            try {
+
+                concurrencyLimitFilter.doFilter(request("/tickets/create"), new MockHttpServletResponse(),
+                        filterChain);
+            }
+            catch (Exception exception) {
+
+                assertThat(exception).hasMessage("boom");
+            }
+
+            // Assert
+            assertThat(concurrencyLimiter.getInFlight()).isZero();
+        }
+
+    }
+
+    @Nested
+    class PriorityOf {
+
+        @Test
+        void picksTheFirstMatchingClass_andFallsBackToNormal() {
+            // Act/Assert
+            assertThat(concurrencyLimitFilter.priorityOf("/tickets/create")).isEqualTo(Priority.CRITICAL);
+            assertThat(concurrencyLimitFilter.priorityOf("/tickets/search")).isEqualTo(Priority.BULK);
+            assertThat(concurrencyLimitFilter.priorityOf("/tickets/7")).isEqualTo(Priority.NORMAL);
+        }
+
+    }
+
+    private double rejected(String priority) {
+
+        return meterRegistry.get("travels.concurrency.rejected")
+                .tag("priority", priority)
+                .counter()
+                .count();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+
+        var request = new MockHttpServletRequest("POST", "/travels-api" + path);
+        request.setContextPath("/travels-api");
+
+        return request;
+    }
+
+    private static Map<Priority, List<String>> paths() {
+
+        var paths = new EnumMap<Priority, List<String>>(Priority.class);
+        paths.put(Priority.CRITICAL, List.of("/tickets/create"));
+        paths.put(Priority.BULK, List.of("/tickets/search"));
+
+        return paths;
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.tourism.travels.loader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchLoaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+
+        scheduler.shutdownNow();
+    }
+
+    @Nested
+    class Load {
+
+        @Test
+        void resolvesKeysRequestedWithinTheWindow_withOneBatchCall() throws Exception {
+            // Arrange
+            var batchLoader = batchLoader(Duration.ofMillis(200), 10);
+
+            // Act
+            var first = batchLoader.load(1);
+            var second = batchLoader.load(2);
+            var duplicate = batchLoader.load(1);
+
+            // Assert
+            assertThat(first.get(5, SECONDS)).contains("value1");
+            assertThat(second.get(5, SECONDS)).contains("value2");
+            assertThat(duplicate).isSameAs(first);
+            assertThat(batches).containsExactly(List.of(1, 2));
+        }
+
+        @Test
+        void dispatchesImmediately_whenTheBatchIsFull() throws Exception {
+            // Arrange
+            var batchLoader = batchLoader(Duration.ofMinutes(1), 2);
+
+            // Act
+            var first = batchLoader.load(1);
+            var second = batchLoader.load(2);
+
+            // Assert
+            assertThat(first.get(5, SECONDS)).contains("value1");
+            assertThat(second.get(5, SECONDS)).contains("value2");
+            assertThat(batches).containsExactly(List.of(1, 2));
+        }
+
+        @Test
+        void completesWithEmpty_whenTheKeyIsNotFound() throws Exception {
+            // Arrange
+            var batchLoader = batchLoader(Duration.ofMillis(1), 10);
+
+            // Act
+            var load = batchLoader.load(-1);
+
+            // Assert
+            assertThat(load.get(5, SECONDS)).isEqualTo(Optional.empty());
+        }
+
+        @Test
+        void loadsTheKeyAloneOnTheCallingThread_whenBypassed() {
+            // Arrange
+            var batchLoader = new BatchLoader<Integer, String>("test", BatchLoaderTest.this::findAllById,
+                    Duration.ofMinutes(1), 10, Duration.ofSeconds(5), () -> true, scheduler, meterRegistry);
+
+            // Act
+            var load = batchLoader.load(1);
+
+            // Assert
+            assertThat(load).isCompletedWithValue(Optional.of("value1"));
+            assertThat(batches).containsExactly(List.of(1));
+        }
+
+    }
+
+    @Nested
+    class Get {
+
+        @Test
+        void returnsTheLoadedValue() {
+            // Arrange
+            var batchLoader = batchLoader(Duration.ofMillis(1), 10);
+
+            // Act
+            var value = batchLoader.get(1);
+
+            // Assert
+            assertThat(value).contains("value1");
+        }
+
+        @Test
+        void rethrowsTheBatchFailureUnwrapped() {
+            // Arrange
+            var batchLoader = new BatchLoader<Integer, String>("test", ids -> {
+                throw new IllegalArgumentException("batch failed");
+            }, Duration.ofMillis(1), 10, Duration.ofSeconds(5), () -> false, scheduler,
+                    meterRegistry);
+
+            // Act/Assert
+            assertThatThrownBy(() -> batchLoader.get(1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("batch failed");
+        }
+
+        @Test
+        void givesUp_whenTheBatchOutlastsTheLoadTimeout() {
+            // Arrange
+            var release = new CountDownLatch(1);
+            var batchLoader = new BatchLoader<Integer, String>("test", ids -> {
+                await(release);
+                return Map.of();
+            }, Duration.ofMillis(1), 10, Duration.ofMillis(50), () -> false, scheduler,
+                    meterRegistry);
+
+            // Act/Assert
+            try {
+
+                assertThatThrownBy(() -> batchLoader.get(1))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessageContaining("timed out")
+                        .hasCauseInstanceOf(TimeoutException.class);
+            }
+            finally {
+
+                release.countDown();
+            }
+        }
+
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+
+            latch.await(5, SECONDS);
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BatchLoader<Integer, String> batchLoader(Duration window, int maxBatchSize) {
+
+        return new BatchLoader<>("test", this::findAllById, window, maxBatchSize, Duration.ofMillis(500), () -> false,
+                scheduler, meterRegistry);
+    }
+
+    private Map<Integer, String> findAllById(Collection<Integer> ids) {
+
+        batches.add(new ArrayList<>(ids));
+
+        return ids.stream()
+                .filter(id -> id > 0)
+                .collect(Collectors.toMap(Function.identity(), id -> "value" + id));
+    }
+
+}
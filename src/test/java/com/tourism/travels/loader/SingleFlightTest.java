@@ -0,0 +1,161 @@
+package com.tourism.travels.loader;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    class Execute {
+
+        @Test
+        void sharesOneCall_whenTheSameKeyIsRequestedConcurrently() throws Exception {
+            // Arrange
+            var singleFlight = new SingleFlight<Integer, String>("test", Duration.ofSeconds(5), () -> false,
+                    meterRegistry);
+            var loaderCalls = new AtomicInteger();
+            var leaderStarted = new CountDownLatch(1);
+            var releaseLeader = new CountDownLatch(1);
+
+            var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1, () -> {
+                loaderCalls.incrementAndGet();
+                leaderStarted.countDown();
+                await(releaseLeader);
+                return "value";
+            }));
+
+            leaderStarted.await(5, SECONDS);
+
+            // Act
+            var follower = CompletableFuture.supplyAsync(() -> singleFlight.execute(1, () -> {
+                loaderCalls.incrementAndGet();
+                return "other value";
+            }));
+
+            awaitCoalescedCalls(1);
+            releaseLeader.countDown();
+
+            // Assert
+            assertThat(leader.get(5, SECONDS)).isEqualTo("value");
+            assertThat(follower.get(5, SECONDS)).isEqualTo("value");
+            assertThat(loaderCalls).hasValue(1);
+            assertThat(count("leader")).isEqualTo(1);
+            assertThat(count("coalesced")).isEqualTo(1);
+        }
+
+        @Test
+        void runsTheLoaderAgain_onceThePreviousCallHasCompleted() {
+            // Arrange
+            var singleFlight = new SingleFlight<Integer, String>("test", Duration.ofSeconds(5), () -> false,
+                    meterRegistry);
+            var loaderCalls = new AtomicInteger();
+
+            // Act
+            singleFlight.execute(1, () -> "value" + loaderCalls.incrementAndGet());
+            var value = singleFlight.execute(1, () -> "value" + loaderCalls.incrementAndGet());
+
+            // Assert
+            assertThat(value).isEqualTo("value2");
+            assertThat(count("leader")).isEqualTo(2);
+            assertThat(count("coalesced")).isZero();
+        }
+
+        @Test
+        void runsTheLoaderItself_whenTheInFlightCallTimesOut() throws Exception {
+            // Arrange
+            var singleFlight = new SingleFlight<Integer, String>("test", Duration.ofMillis(10), () -> false,
+                    meterRegistry);
+            var leaderStarted = new CountDownLatch(1);
+            var releaseLeader = new CountDownLatch(1);
+
+            var leader = CompletableFuture.supplyAsync(() -> singleFlight.execute(1, () -> {
+                leaderStarted.countDown();
+                await(releaseLeader);
+                return "value";
+            }));
+
+            leaderStarted.await(5, SECONDS);
+
+            // Act
+            var value = singleFlight.execute(1, () -> "fallback");
+
+            // Assert
+            assertThat(value).isEqualTo("fallback");
+            assertThat(count("timeout")).isEqualTo(1);
+
+            releaseLeader.countDown();
+            leader.get(5, SECONDS);
+        }
+
+        @Test
+        void rethrowsTheException_whenTheLoaderFails() {
+            // Arrange
+            var singleFlight = new SingleFlight<Integer, String>("test", Duration.ofSeconds(5), () -> false,
+                    meterRegistry);
+
+            // Act/Assert
+            assertThatThrownBy(() -> singleFlight.execute(1, () -> { throw new IllegalArgumentException("boom"); }))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("boom");
+        }
+
+        @Test
+        void runsEveryCallOnItsOwn_whenBypassed() {
+            // Arrange
+            var singleFlight = new SingleFlight<Integer, String>("test", Duration.ofSeconds(5), () -> true,
+                    meterRegistry);
+            var loaderCalls = new AtomicInteger();
+
+            // Act
+            singleFlight.execute(1, () -> "value" + loaderCalls.incrementAndGet());
+            var value = singleFlight.execute(1, () -> "value" + loaderCalls.incrementAndGet());
+
+            // Assert
+            assertThat(value).isEqualTo("value2");
+            assertThat(count("bypassed")).isEqualTo(2);
+            assertThat(count("leader")).isZero();
+        }
+
+    }
+
+    private double count(String result) {
+
+        return meterRegistry.get("travels.single.flight.calls")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private void awaitCoalescedCalls(int expected) throws InterruptedException {
+
+        while (count("coalesced") < expected) {
+
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+
+            latch.await(5, SECONDS);
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
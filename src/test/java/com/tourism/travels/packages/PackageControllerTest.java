@@ -16,6 +16,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.Collections;
+import java.util.List;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -96,6 +97,36 @@ class PackageControllerTest {
 
     }
 
+    @Nested
+    class GetPackagesByIds {
+
+        @Test
+        void works() throws Exception {
+            // Arrange
+            var packageEntity = new PackageEntity();
+            packageEntity.setPackageId(123);
+
+            var packageEntities = Collections.singletonList(packageEntity);
+            var packageResources = Collections.singletonList(getPackageResource());
+
+            when(packageService.getPackageEntitiesByIds(List.of(123, 456))).thenReturn(packageEntities);
+            when(travelMapper.toPackageResources(packageEntities)).thenReturn(packageResources);
+
+            // Act/Assert
+            mockMvc.perform(post("/packages/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BATCH_REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(PACKAGE_BATCH_RESPONSE));
+
+            verify(packageService).getPackageEntitiesByIds(List.of(123, 456));
+            verify(travelMapper).toPackageResources(packageEntities);
+
+            verifyNoMoreInteractions(packageService, travelMapper);
+        }
+
+    }
+
     @Nested
     class AddPackage {
 
@@ -316,6 +347,26 @@ class PackageControllerTest {
                       }
                     ]""";
 
+    private static final String BATCH_REQUEST =
+            """
+                    {
+                      "ids": [123, 456]
+                    }""";
+
+    private static final String PACKAGE_BATCH_RESPONSE =
+            """
+                    {
+                      "found": [
+                        {
+                          "packageId": 123,
+                          "packageName": "Agra",
+                          "tripDuration": "2 Days,1 Night",
+                          "totalCost": 5000
+                        }
+                      ],
+                      "missingIds": [456]
+                    }""";
+
     private static final String PACKAGE_REQUEST =
             """
                     {
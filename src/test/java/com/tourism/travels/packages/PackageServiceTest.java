@@ -3,8 +3,11 @@ package com.tourism.travels.packages;
 import com.tourism.travels.customer.TravelMapper;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
+import com.tourism.travels.loader.BatchLoader;
+import com.tourism.travels.loader.SingleFlight;
 import com.tourism.travels.sql.PackageEntity;
 import com.tourism.travels.sql.PackageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,7 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -28,12 +33,16 @@ class PackageServiceTest {
     @Mock
     private PackageRepository packageRepository;
 
+    @Mock
+    private BatchLoader<Integer, PackageEntity> packageBatchLoader;
+
     private PackageService packageService;
 
     @BeforeEach
     void setup() {
 
-        packageService = new PackageService(travelMapper, packageRepository);
+        packageService = new PackageService(travelMapper, packageRepository, packageBatchLoader,
+                new SingleFlight<>("package", Duration.ofSeconds(1), () -> false, new SimpleMeterRegistry()));
     }
 
     @Nested
@@ -68,7 +77,7 @@ class PackageServiceTest {
             var packageId = 123;
             var packageEntity = new PackageEntity();
 
-            when(packageRepository.findById(packageId)).thenReturn(Optional.of(packageEntity));
+            when(packageBatchLoader.get(packageId)).thenReturn(Optional.of(packageEntity));
 
             // Act
             var returnedPackageEntity = packageService.getPackageEntityById(packageId);
@@ -76,9 +85,9 @@ class PackageServiceTest {
             // Assert
             assertThat(returnedPackageEntity).isEqualTo(packageEntity);
 
-            verify(packageRepository).findById(packageId);
+            verify(packageBatchLoader).get(packageId);
 
-            verifyNoMoreInteractions(packageRepository);
+            verifyNoMoreInteractions(packageBatchLoader, packageRepository);
         }
 
         @Test
@@ -86,7 +95,7 @@ class PackageServiceTest {
             // Arrange
             var packageId = 123;
 
-            when(packageRepository.findById(packageId)).thenReturn(Optional.empty());
+            when(packageBatchLoader.get(packageId)).thenReturn(Optional.empty());
 
             // Act/ Assert
             assertThatThrownBy(() -> packageService.getPackageEntityById(packageId))
@@ -95,6 +104,30 @@ class PackageServiceTest {
 
     }
 
+    @Nested
+    class GetPackageEntitiesByIds {
+
+        @Test
+        void works() {
+            // Arrange
+            var ids = List.of(123, 456);
+            var entities = Collections.singletonList(new PackageEntity());
+
+            when(packageRepository.findAllById(ids)).thenReturn(entities);
+
+            // Act
+            var returnedEntities = packageService.getPackageEntitiesByIds(ids);
+
+            // Assert
+            assertThat(returnedEntities).isEqualTo(entities);
+
+            verify(packageRepository).findAllById(ids);
+
+            verifyNoMoreInteractions(packageRepository);
+        }
+
+    }
+
     @Nested
     class AddNewPackage {
 
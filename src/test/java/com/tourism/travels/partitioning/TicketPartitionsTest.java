@@ -0,0 +1,191 @@
+package com.tourism.travels.partitioning;
+
+import com.tourism.travels.partitioning.PartitioningProperties.OldPartitions;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TicketPartitionsTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2030-03-15");
+
+    private static final String COLUMNS = "ticket_id, customer_id, package_id, travel_date, total_members, "
+            + "customer_first_name, cost_per_person, total_cost";
+
+    @Nested
+    class PlanCreate {
+
+        @Test
+        void splitsTheMonthsFromTheEarliestTravelDate_whenThereIsNoMonthlyPartitionYet() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(2, 24, OldPartitions.KEEP);
+
+            // Act
+            var statements = ticketPartitions.planCreate(List.of("p_future"), TODAY, LocalDate.parse("2030-01-20"));
+
+            // Assert
+            assertThat(statements).containsExactly("ALTER TABLE ticket REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION p203001 VALUES LESS THAN ('2030-02-01'), "
+                    + "PARTITION p203002 VALUES LESS THAN ('2030-03-01'), "
+                    + "PARTITION p203003 VALUES LESS THAN ('2030-04-01'), "
+                    + "PARTITION p203004 VALUES LESS THAN ('2030-05-01'), "
+                    + "PARTITION p203005 VALUES LESS THAN ('2030-06-01'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        }
+
+        @Test
+        void startsAtTheCurrentMonth_whenTheTableIsEmpty() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(1, 24, OldPartitions.KEEP);
+
+            // Act
+            var statements = ticketPartitions.planCreate(List.of("p_future"), TODAY, null);
+
+            // Assert
+            assertThat(statements).containsExactly("ALTER TABLE ticket REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION p203003 VALUES LESS THAN ('2030-04-01'), "
+                    + "PARTITION p203004 VALUES LESS THAN ('2030-05-01'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        }
+
+        @Test
+        void continuesAfterTheLastMonthlyPartition() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 24, OldPartitions.KEEP);
+
+            // Act
+            var statements = ticketPartitions.planCreate(List.of("p203003", "p203004", "p203005", "p_future"),
+                    TODAY, LocalDate.parse("2020-01-01"));
+
+            // Assert
+            assertThat(statements).containsExactly("ALTER TABLE ticket REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION p203006 VALUES LESS THAN ('2030-07-01'), "
+                    + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        }
+
+        @Test
+        void plansNothing_whenThePartitionsAlreadyReachFarEnoughAhead() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(1, 24, OldPartitions.KEEP);
+
+            // Act
+            var statements = ticketPartitions.planCreate(List.of("p203003", "p203004", "p_future"), TODAY, null);
+
+            // Assert
+            assertThat(statements).isEmpty();
+        }
+
+    }
+
+    @Nested
+    class PlanDetach {
+
+        private final List<String> partitions = List.of("p202801", "p202802", "p202803", "p203003", "p_future");
+
+        @Test
+        void plansNothing_whenOldPartitionsAreKept() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 24, OldPartitions.KEEP);
+
+            // Act
+            var statements = ticketPartitions.planDetach(partitions, List.of("ticket_p202712"), false, TODAY);
+
+            // Assert
+            assertThat(statements).isEmpty();
+        }
+
+        @Test
+        void movesThePartitionsOlderThanTheRetentionIntoTheHistory() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 24, OldPartitions.DETACH);
+
+            // Act
+            var statements = ticketPartitions.planDetach(partitions, List.of(), false, TODAY);
+
+            // Assert
+            assertThat(statements).containsExactly(
+                    "CREATE TABLE ticket_p202801 LIKE ticket",
+                    "ALTER TABLE ticket_p202801 REMOVE PARTITIONING",
+                    "ALTER TABLE ticket EXCHANGE PARTITION p202801 WITH TABLE ticket_p202801",
+                    "ALTER TABLE ticket DROP PARTITION p202801",
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202801",
+                    "DROP TABLE ticket_p202801",
+                    "CREATE TABLE ticket_p202802 LIKE ticket",
+                    "ALTER TABLE ticket_p202802 REMOVE PARTITIONING",
+                    "ALTER TABLE ticket EXCHANGE PARTITION p202802 WITH TABLE ticket_p202802",
+                    "ALTER TABLE ticket DROP PARTITION p202802",
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202802",
+                    "DROP TABLE ticket_p202802");
+        }
+
+        @Test
+        void compressesTheHistoryFirst_whenAskedAndNotCompressedYet() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 25, OldPartitions.DETACH_AND_COMPRESS);
+
+            // Act
+            var statements = ticketPartitions.planDetach(partitions, List.of(), false, TODAY);
+
+            // Assert
+            assertThat(statements).containsExactly(
+                    "ALTER TABLE ticket_history ROW_FORMAT=COMPRESSED",
+                    "CREATE TABLE ticket_p202801 LIKE ticket",
+                    "ALTER TABLE ticket_p202801 REMOVE PARTITIONING",
+                    "ALTER TABLE ticket EXCHANGE PARTITION p202801 WITH TABLE ticket_p202801",
+                    "ALTER TABLE ticket DROP PARTITION p202801",
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202801",
+                    "DROP TABLE ticket_p202801");
+        }
+
+        @Test
+        void leavesTheHistoryAlone_whenItIsAlreadyCompressed() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 25, OldPartitions.DETACH_AND_COMPRESS);
+
+            // Act
+            var statements = ticketPartitions.planDetach(partitions, List.of(), true, TODAY);
+
+            // Assert
+            assertThat(statements).hasSize(6).noneMatch(statement -> statement.contains("ROW_FORMAT"));
+        }
+
+        @Test
+        void drainsTheTablesLeftByAnEarlierRun_beforeDetachingAgain() {
+            // Arrange
+            var ticketPartitions = ticketPartitions(3, 25, OldPartitions.DETACH);
+
+            // Act
+            var statements = ticketPartitions.planDetach(partitions, List.of("ticket_p202801", "ticket_p202712",
+                    "ticket_preview"), false, TODAY);
+
+            // Assert
+            assertThat(statements).containsExactly(
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202712",
+                    "DROP TABLE ticket_p202712",
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202801",
+                    "DROP TABLE ticket_p202801",
+                    "CREATE TABLE ticket_p202801 LIKE ticket",
+                    "ALTER TABLE ticket_p202801 REMOVE PARTITIONING",
+                    "ALTER TABLE ticket EXCHANGE PARTITION p202801 WITH TABLE ticket_p202801",
+                    "ALTER TABLE ticket DROP PARTITION p202801",
+                    "INSERT IGNORE INTO ticket_history (" + COLUMNS + ") SELECT " + COLUMNS + " FROM ticket_p202801",
+                    "DROP TABLE ticket_p202801");
+        }
+
+    }
+
+    private static TicketPartitions ticketPartitions(int monthsAhead, int retainMonths, OldPartitions oldPartitions) {
+
+        var partitioningProperties = new PartitioningProperties();
+        partitioningProperties.setMonthsAhead(monthsAhead);
+        partitioningProperties.setRetainMonths(retainMonths);
+        partitioningProperties.setOldPartitions(oldPartitions);
+
+        return new TicketPartitions(partitioningProperties);
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.tourism.travels.reactive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(webEnvironment = RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "travels.reactive.enabled=true",
+        "travels.reactive.url=r2dbc:h2:mem:///reactive;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+class ReactiveTicketControllerIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setup() {
+
+        jdbcTemplate.update("DELETE FROM ticket");
+        jdbcTemplate.update("DELETE FROM customer");
+        jdbcTemplate.update("DELETE FROM package");
+
+        jdbcTemplate.update("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                "VALUES (1, 'Sai', 'Kumar', 'sai@gmail.com', 'secret'), (2, 'Ravi', 'Teja', 'ravi@gmail.com', 'secret')");
+        jdbcTemplate.update("INSERT INTO package (id, package_name, trip_duration, cost_per_person) " +
+                "VALUES (1, 'Agra', '2 Days', 1500), (2, 'Goa', '4 Days', 5000)");
+        jdbcTemplate.update("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, total_members, " +
+                "customer_first_name, cost_per_person, total_cost) VALUES " +
+                "(1, 1, 1, '2030-03-01', 2, 'Sai', 1500, 3000), (2, 1, 2, '2030-01-01', 3, 'Sai', 5000, 15000), " +
+                "(3, 2, 2, '2030-02-01', 1, 'Ravi', 5000, 5000)");
+    }
+
+    @Nested
+    class GetTickets {
+
+        @Test
+        void streamsEveryTicket_asNewlineDelimitedJson() {
+            // Act
+            var response = exchange(HttpMethod.GET, "/reactive/tickets", null, MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(lines(response.getBody())).containsExactly(
+                    "{\"ticketId\":\"1\",\"customerId\":\"1\",\"packageId\":\"1\",\"travelDate\":\"2030-03-01\",\"totalMembers\":\"2\",\"totalCost\":3000}",
+                    "{\"ticketId\":\"2\",\"customerId\":\"1\",\"packageId\":\"2\",\"travelDate\":\"2030-01-01\",\"totalMembers\":\"3\",\"totalCost\":15000}",
+                    "{\"ticketId\":\"3\",\"customerId\":\"2\",\"packageId\":\"2\",\"travelDate\":\"2030-02-01\",\"totalMembers\":\"1\",\"totalCost\":5000}");
+        }
+
+    }
+
+    @Nested
+    class SearchTicket {
+
+        @Test
+        void streamsMatchingTickets_sortedByTravelDate() {
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search", "{\"customerId\": \"1\"}",
+                    MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(lines(response.getBody())).containsExactly(
+                    "{\"firstName\":\"Sai\",\"lastName\":\"Kumar\",\"email\":\"sai@gmail.com\",\"packageName\":\"Goa\",\"tripDuration\":\"4 Days\",\"travelDate\":\"2030-01-01\",\"totalMembers\":3,\"totalCostOfTrip\":15000}",
+                    "{\"firstName\":\"Sai\",\"lastName\":\"Kumar\",\"email\":\"sai@gmail.com\",\"packageName\":\"Agra\",\"tripDuration\":\"2 Days\",\"travelDate\":\"2030-03-01\",\"totalMembers\":2,\"totalCostOfTrip\":3000}");
+        }
+
+        @Test
+        void appliesEveryCriterion_sortAndPagination() {
+            // Arrange
+            var body = "{\"packageId\": \"2\", \"sortResultsBy\": {\"fieldName\": \"CUSTOMER_NAME\", \"orderBy\": \"DESC\"}," +
+                    " \"pagination\": {\"pageNumber\": 1, \"pageSize\": 1}}";
+
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search", body, MediaType.APPLICATION_JSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isEqualTo("[{\"firstName\":\"Ravi\",\"lastName\":\"Teja\"," +
+                    "\"email\":\"ravi@gmail.com\",\"packageName\":\"Goa\",\"tripDuration\":\"4 Days\"," +
+                    "\"travelDate\":\"2030-02-01\",\"totalMembers\":1,\"totalCostOfTrip\":5000}]");
+        }
+
+        @Test
+        void filtersByEmailAndTravelDate() {
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search",
+                    "{\"email\": \"sai@gmail.com\", \"travelDate\": \"2030-03-01\"}", MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(lines(response.getBody())).hasSize(1).first().asString().contains("\"packageName\":\"Agra\"");
+        }
+
+        @Test
+        void returnsBadRequest_whenNoCriteriaAreGiven() {
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search", "{}", MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).isEqualTo("{\"message\":\"request body must contain at least one of" +
+                    " the following search criteria: customerId, packageId, email, travelDate, customerIds, packageIds," +
+                    " emails, anyOf\"}");
+        }
+
+        @Test
+        void returnsBadRequest_whenCriteriaListSeveralValues() {
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search", "{\"customerIds\": [1, 2]}",
+                    MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @Test
+        void returnsBadRequest_whenACriterionIsInvalid() {
+            // Act
+            var response = exchange(HttpMethod.POST, "/reactive/tickets/search", "{\"email\": \"not-an-email\"}",
+                    MediaType.APPLICATION_NDJSON);
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).contains("\"field\":\"email\"");
+        }
+
+    }
+
+    private ResponseEntity<String> exchange(HttpMethod method, String path, String body, MediaType accept) {
+
+        var headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(accept));
+
+        return testRestTemplate.exchange(path, method, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private static List<String> lines(String body) {
+
+        return body.lines().filter(line -> !line.isBlank()).toList();
+    }
+
+}
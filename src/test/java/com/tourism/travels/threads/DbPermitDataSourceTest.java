@@ -0,0 +1,71 @@
+package com.tourism.travels.threads;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DbPermitDataSourceTest {
+
+    private DbPermitDataSource dbPermitDataSource;
+
+    @BeforeEach
+    void setup() {
+
+        var url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        dbPermitDataSource = new DbPermitDataSource(new DriverManagerDataSource(url), 1, Duration.ofMillis(50));
+    }
+
+    @Nested
+    class GetConnection {
+
+        @Test
+        void holdsAPermit_untilTheConnectionIsClosed() throws Exception {
+            // Act
+            var connection = dbPermitDataSource.getConnection();
+
+            // Assert
+            assertThat(dbPermitDataSource.getAvailablePermits()).isZero();
+
+            connection.close();
+            connection.close();
+
+            assertThat(dbPermitDataSource.getAvailablePermits()).isEqualTo(1);
+        }
+
+        @Test
+        void throwsSQLTransientConnectionException_whenNoPermitFreesUpInTime() throws Exception {
+            // Arrange
+            try (var ignored = dbPermitDataSource.getConnection()) {
+
+                // Act/Assert
+                assertThatThrownBy(() -> dbPermitDataSource.getConnection())
+                        .isInstanceOf(SQLTransientConnectionException.class)
+                        .hasMessage("No database permit available within PT0.05S");
+            }
+
+            assertThat(dbPermitDataSource.getAvailablePermits()).isEqualTo(1);
+        }
+
+        @Test
+        void releasesThePermit_whenTheTargetFailsToConnect() {
+            // Arrange
+            var failing = new DbPermitDataSource(new DriverManagerDataSource("jdbc:h2:nowhere:"), 1,
+                    Duration.ofMillis(50));
+
+            // Act/Assert
+            assertThatThrownBy(failing::getConnection).isNotNull();
+            assertThat(failing.getAvailablePermits()).isEqualTo(1);
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.tourism.travels.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PinnedThreadMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Nested
+    class Start {
+
+        @Test
+        void countsVirtualThreadsThatBlockInsideAMonitor() throws Exception {
+            // Arrange
+            try (var pinnedThreadMonitor = new PinnedThreadMonitor(Duration.ofMillis(1), meterRegistry)) {
+
+                pinnedThreadMonitor.start();
+
+                // Act
+                Thread.ofVirtual().start(PinnedThreadMonitorTest::sleepWhileHoldingAMonitor).join();
+
+                // Assert
+                var deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+
+                while (pinned() == 0 && System.nanoTime() < deadline) {
+
+                    Thread.sleep(50);
+                }
+
+                assertThat(pinned()).isEqualTo(1);
+            }
+        }
+
+    }
+
+    private double pinned() {
+
+        var counter = meterRegistry.find("travels.virtual.threads.pinned").tag("source", "other").counter();
+
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static synchronized void sleepWhileHoldingAMonitor() {
+
+        try {
+
+            Thread.sleep(50);
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
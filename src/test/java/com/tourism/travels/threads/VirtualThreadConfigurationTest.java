@@ -0,0 +1,128 @@
+package com.tourism.travels.threads;
+
+import com.tourism.travels.datasource.ReadWriteRoutingDataSource;
+import com.tourism.travels.datasource.ReadYourWrites;
+import com.tourism.travels.datasource.Replica;
+import com.tourism.travels.datasource.ReplicaSet;
+import com.tourism.travels.jdbc.DbStatsConfiguration.InstrumentedDataSourcePostProcessor;
+import com.tourism.travels.jdbc.InstrumentedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadConfigurationTest {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VirtualThreadConfiguration.DbPermitDataSourcePostProcessor dbPermitDataSourcePostProcessor;
+
+    @BeforeEach
+    void setup() {
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("virtualThreadProperties", new VirtualThreadProperties());
+        beanFactory.registerSingleton("meterRegistry", meterRegistry);
+
+        dbPermitDataSourcePostProcessor = new VirtualThreadConfiguration.DbPermitDataSourcePostProcessor(
+                beanFactory.getBeanProvider(VirtualThreadProperties.class),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Nested
+    class DbPermitDataSourcePostProcessor {
+
+        @Test
+        void guardsEveryRoutingTarget_withPermitsSizedToItsOwnPool() {
+            // Arrange
+            var primary = pool("primary", 2);
+            var replica = pool("replica-0", 5);
+
+            var routingDataSource = new ReadWriteRoutingDataSource(primary,
+                    new ReplicaSet(List.of(new Replica("replica-0", replica))), new ReadYourWrites(Duration.ZERO));
+            var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+            // Act
+            var processed = dbPermitDataSourcePostProcessor.postProcessAfterInitialization(dataSource, "dataSource");
+
+            // Assert
+            assertThat(processed).isSameAs(dataSource);
+            assertThat(routingDataSource.getResolvedDataSources().values())
+                    .allMatch(DbPermitDataSource.class::isInstance);
+            assertThat(availablePermits("primary")).isEqualTo(2);
+            assertThat(availablePermits("replica-0")).isEqualTo(5);
+        }
+
+        @Test
+        void guardsTheSinglePool_withoutRouting() {
+            // Arrange
+            var pool = pool("single", 3);
+
+            // Act
+            var processed = dbPermitDataSourcePostProcessor.postProcessAfterInitialization(pool, "dataSource");
+
+            // Assert
+            assertThat(processed).isInstanceOf(DbPermitDataSource.class);
+            assertThat(availablePermits("single")).isEqualTo(3);
+        }
+
+        @Test
+        void wrapsInsideTheStatementCounting() {
+            // Arrange
+            var pool = pool("single", 3);
+            var instrumentedDataSourcePostProcessor = new InstrumentedDataSourcePostProcessor();
+
+            // Act
+            var processed = instrumentedDataSourcePostProcessor.postProcessAfterInitialization(
+                    dbPermitDataSourcePostProcessor.postProcessAfterInitialization(pool, "dataSource"), "dataSource");
+
+            // Assert
+            assertThat(dbPermitDataSourcePostProcessor.getOrder())
+                    .isLessThan(instrumentedDataSourcePostProcessor.getOrder());
+            assertThat(processed).isInstanceOf(InstrumentedDataSource.class);
+            assertThat(((InstrumentedDataSource) processed).getTargetDataSource())
+                    .isInstanceOf(DbPermitDataSource.class);
+        }
+
+    }
+
+    private double availablePermits(String pool) {
+
+        return meterRegistry.get("travels.db.permits.available").tag("pool", pool).gauge().value();
+    }
+
+    private HikariDataSource pool(String name, int maximumPoolSize) {
+
+        var pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID());
+        pool.setMaximumPoolSize(maximumPoolSize);
+
+        pools.add(pool);
+
+        return pool;
+    }
+
+}
@@ -1,13 +1,18 @@
 package com.tourism.travels.ticket;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.pojo.SearchRequest;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
 
+import static com.tourism.travels.sql.QCustomerEntity.customerEntity;
 import static com.tourism.travels.sql.QTicketEntity.ticketEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -58,7 +63,9 @@ class PredicateBuilderTest {
             searchRequest.setEmail("sai@gmail.com");
 
             var expectedPredicate = new BooleanBuilder();
-            expectedPredicate.and(ticketEntity.customerEntity.email.eq("sai@gmail.com"));
+            expectedPredicate.and(ticketEntity.customerId.in(JPAExpressions.select(customerEntity.customerId)
+                    .from(customerEntity)
+                    .where(customerEntity.email.eq("sai@gmail.com"))));
 
             // Act
             var returnedPredicate = predicateBuilder.buildSearchPredicate(searchRequest);
@@ -92,7 +99,149 @@ class PredicateBuilderTest {
             assertThatThrownBy(() -> predicateBuilder.buildSearchPredicate(searchRequest))
                     .isInstanceOf(BusinessValidationException.class)
                     .hasMessage("request body must contain at least one of the following search" +
-                            " criteria: customerId, packageId, email, travelDate");
+                            " criteria: customerId, packageId, email, travelDate, customerIds, packageIds, emails, anyOf");
+        }
+
+        @Test
+        void sortsAndDeduplicatesListsOfValues() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerIds(List.of(9, 7, 8));
+            searchRequest.setPackageIds(List.of(3, 3));
+
+            var expectedPredicate = new BooleanBuilder();
+            expectedPredicate.and(ticketEntity.customerId.in(List.of(7, 8, 9)));
+            expectedPredicate.and(ticketEntity.packageId.eq(3));
+
+            // Act
+            var returnedPredicate = predicateBuilder.buildSearchPredicate(searchRequest);
+
+            // Assert
+            assertThat(returnedPredicate).isEqualTo(expectedPredicate);
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenRequestContainsASingleValueAndAListOfTheSameField() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setPackageId("5");
+            searchRequest.setPackageIds(List.of(6));
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.buildSearchPredicate(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessageStartingWith("a search criterion takes either a single value or a list");
+        }
+
+        @Test
+        void leadsWithTheMostSelectiveCriterion_andEndsWithTheOrGroup() {
+            // Arrange
+            var anyOf = new SearchRequest.AnyOf();
+            anyOf.setCustomerIds(List.of(1, 2));
+            anyOf.setPackageIds(List.of(4));
+
+            var searchRequest = new SearchRequest();
+            searchRequest.setAnyOf(anyOf);
+            searchRequest.setTravelDate("2022-12-15");
+            searchRequest.setPackageId("123");
+            searchRequest.setEmails(List.of("sai@gmail.com", "ravi@gmail.com"));
+
+            var expectedPredicate = new BooleanBuilder();
+            expectedPredicate.and(ticketEntity.customerId.in(JPAExpressions.select(customerEntity.customerId)
+                    .from(customerEntity)
+                    .where(customerEntity.email.in(List.of("ravi@gmail.com", "sai@gmail.com")))));
+            expectedPredicate.and(ticketEntity.packageId.eq(123));
+            expectedPredicate.and(ticketEntity.travelDate.eq(LocalDate.parse("2022-12-15")));
+            expectedPredicate.and(new BooleanBuilder()
+                    .or(ticketEntity.customerId.in(List.of(1, 2)))
+                    .or(ticketEntity.packageId.eq(4)));
+
+            // Act
+            var returnedPredicate = predicateBuilder.buildSearchPredicate(searchRequest);
+
+            // Assert
+            assertThat(returnedPredicate).isEqualTo(expectedPredicate);
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenACriterionListsTooManyValues() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerIds(IntStream.rangeClosed(0, SearchRequest.MAX_VALUES).boxed().toList());
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.buildSearchPredicate(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("a search criterion may list at most 64 values");
+        }
+
+    }
+
+    @Nested
+    class RequireSearchCriteria {
+
+        @Test
+        void acceptsAnOrGroupOnItsOwn() {
+            // Arrange
+            var anyOf = new SearchRequest.AnyOf();
+            anyOf.setEmails(List.of("sai@gmail.com"));
+
+            var searchRequest = new SearchRequest();
+            searchRequest.setAnyOf(anyOf);
+
+            // Act/Assert
+            predicateBuilder.requireSearchCriteria(searchRequest);
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenTheOrGroupIsEmpty() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setAnyOf(new SearchRequest.AnyOf());
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.requireSearchCriteria(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class);
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenRequestContainsASingleValueAndAListOfTheSameField() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setEmail("sai@gmail.com");
+            searchRequest.setEmails(List.of("ravi@gmail.com"));
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.requireSearchCriteria(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessageStartingWith("a search criterion takes either a single value or a list");
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenArchivedTicketsAreSearchedByAList() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerIds(List.of(1, 2));
+            searchRequest.setIncludeArchived(true);
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.requireSearchCriteria(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessageStartingWith("includeArchived takes single values only");
+        }
+
+        @Test
+        void throwsBusinessValidationException_whenArchivedTicketsAreSearchedWithFacets() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerId("1");
+            searchRequest.setFacets(EnumSet.of(SearchRequest.Facet.PACKAGE_ID));
+            searchRequest.setIncludeArchived(true);
+
+            // Act/Assert
+            assertThatThrownBy(() -> predicateBuilder.requireSearchCriteria(searchRequest))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessageStartingWith("includeArchived takes single values only");
         }
 
     }
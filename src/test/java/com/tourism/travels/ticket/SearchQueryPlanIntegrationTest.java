@@ -0,0 +1,332 @@
+package com.tourism.travels.ticket;
+
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchRequest.FieldName;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Captures the SQL that Hibernate issues for every combination of search criteria and sort field, and asks H2, in
+ * MySQL mode and on the Flyway-managed schema, how it would run it. A plan that reads a whole table means the
+ * index set in db/migration no longer covers the search.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "travels.warmup.enabled=false"})
+class SearchQueryPlanIntegrationTest {
+
+    private static final LocalDate FIRST_TRAVEL_DATE = LocalDate.now().plusDays(10);
+    private static final int CUSTOMERS = 500;
+    private static final int PACKAGES = 50;
+    private static final int TICKETS = 20_000;
+
+    private static final List<Recorded> RECORDED = new ArrayList<>();
+
+    @Autowired
+    private TicketController ticketController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void setup() {
+
+        jdbcTemplate.batchUpdate("INSERT INTO customer (customer_id, first_name, last_name, email, saved_password) " +
+                "VALUES (?, ?, ?, ?, 'secret')", IntStream.rangeClosed(1, CUSTOMERS)
+                .mapToObj(i -> new Object[] {i, "First" + i, "Last" + i, "customer" + i + "@example.com"})
+                .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO package (id, package_name, trip_duration, cost_per_person) " +
+                "VALUES (?, ?, '3 Days', 2500)", IntStream.rangeClosed(1, PACKAGES)
+                .mapToObj(i -> new Object[] {i, "Package" + i})
+                .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO ticket (ticket_id, customer_id, package_id, travel_date, total_members, " +
+                "customer_first_name, cost_per_person, total_cost) VALUES (?, ?, ?, ?, 2, ?, 2500, 5000)",
+                IntStream.rangeClosed(1, TICKETS)
+                .mapToObj(i -> new Object[] {i, i % CUSTOMERS + 1, i % PACKAGES + 1, FIRST_TRAVEL_DATE.plusDays(i % 365),
+                        "First" + (i % CUSTOMERS + 1)})
+                .toList());
+        jdbcTemplate.batchUpdate("INSERT INTO ticket_history (ticket_id, customer_id, package_id, travel_date, " +
+                "total_members, customer_first_name, cost_per_person, total_cost) " +
+                "VALUES (?, ?, ?, ?, 2, ?, 2500, 5000)",
+                IntStream.rangeClosed(1, TICKETS / 4)
+                .mapToObj(i -> new Object[] {TICKETS + i, i % CUSTOMERS + 1, i % PACKAGES + 1,
+                        FIRST_TRAVEL_DATE.minusYears(2).plusDays(i % 365), "First" + (i % CUSTOMERS + 1)})
+                .toList());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @ParameterizedTest(name = "criteria {0}, sorted by {1}")
+    @MethodSource("searches")
+    void plansNoFullTableScan(String criteria, FieldName sortField) throws SQLException {
+        // Arrange
+        var searchRequest = new SearchRequest();
+        searchRequest.getSortResultsBy().setFieldName(sortField);
+
+        if (criteria.contains("customerId")) {
+
+            searchRequest.setCustomerId("7");
+        }
+
+        if (criteria.contains("packageId")) {
+
+            searchRequest.setPackageId("7");
+        }
+
+        if (criteria.contains("email")) {
+
+            searchRequest.setEmail("customer6@example.com");
+        }
+
+        if (criteria.contains("travelDate")) {
+
+            searchRequest.setTravelDate(FIRST_TRAVEL_DATE.plusDays(7).toString());
+        }
+
+        // Act/Assert
+        assertNoFullTableScan(searchRequest);
+    }
+
+    @ParameterizedTest(name = "{0}, sorted by {1}")
+    @MethodSource("multiValueSearches")
+    void plansNoFullTableScan_forListsOfValues(String criteria, FieldName sortField) throws SQLException {
+        // Arrange
+        var searchRequest = new SearchRequest();
+        searchRequest.getSortResultsBy().setFieldName(sortField);
+
+        switch (criteria) {
+            case "customerIds" -> searchRequest.setCustomerIds(List.of(7, 8, 9));
+            case "packageIds" -> searchRequest.setPackageIds(List.of(7, 8, 9, 10, 11));
+            case "emails" -> searchRequest.setEmails(List.of("customer6@example.com", "customer9@example.com"));
+            case "travelDate+anyOf" -> {
+                searchRequest.setTravelDate(FIRST_TRAVEL_DATE.plusDays(7).toString());
+                searchRequest.setAnyOf(new SearchRequest.AnyOf());
+                searchRequest.getAnyOf().setCustomerIds(List.of(7, 8));
+                searchRequest.getAnyOf().setPackageIds(List.of(7));
+            }
+            default -> throw new IllegalArgumentException(criteria);
+        }
+
+        // Act/Assert
+        assertNoFullTableScan(searchRequest);
+    }
+
+    @ParameterizedTest(name = "criteria {0}, sorted by {1}")
+    @MethodSource("singleCriterionSearches")
+    void plansNoFullTableScan_includingArchivedTickets(String criteria, FieldName sortField) throws SQLException {
+        // Arrange
+        var searchRequest = new SearchRequest();
+        searchRequest.getSortResultsBy().setFieldName(sortField);
+        searchRequest.setIncludeArchived(true);
+
+        switch (criteria) {
+            case "customerId" -> searchRequest.setCustomerId("7");
+            case "packageId" -> searchRequest.setPackageId("7");
+            case "email" -> searchRequest.setEmail("customer6@example.com");
+            case "travelDate" -> searchRequest.setTravelDate(FIRST_TRAVEL_DATE.plusDays(7).toString());
+            default -> throw new IllegalArgumentException(criteria);
+        }
+
+        // Act/Assert
+        assertNoFullTableScan(searchRequest);
+    }
+
+    private void assertNoFullTableScan(SearchRequest searchRequest) throws SQLException {
+
+        synchronized (RECORDED) {
+
+            RECORDED.clear();
+        }
+
+        ticketController.searchTicket(searchRequest);
+
+        assertThat(RECORDED).isNotEmpty();
+
+        for (var recorded : RECORDED) {
+
+            var plan = explain(recorded);
+
+            assertThat(plan)
+                    .as("plan for %s", recorded.sql())
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+
+    }
+
+    static Stream<Arguments> searches() {
+
+        var criteria = List.of("customerId", "packageId", "email", "travelDate");
+
+        return IntStream.rangeClosed(1, 15)
+                .mapToObj(mask -> IntStream.range(0, criteria.size())
+                        .filter(bit -> (mask & 1 << bit) != 0)
+                        .mapToObj(criteria::get)
+                        .toList())
+                .flatMap(combination -> Arrays.stream(FieldName.values())
+                        .map(sortField -> Arguments.of(String.join("+", combination), sortField)));
+    }
+
+    static Stream<Arguments> singleCriterionSearches() {
+
+        return Stream.of("customerId", "packageId", "email", "travelDate")
+                .flatMap(criteria -> Arrays.stream(FieldName.values())
+                        .map(sortField -> Arguments.of(criteria, sortField)));
+    }
+
+    static Stream<Arguments> multiValueSearches() {
+
+        return Stream.of("customerIds", "packageIds", "emails", "travelDate+anyOf")
+                .flatMap(criteria -> Arrays.stream(FieldName.values())
+                        .map(sortField -> Arguments.of(criteria, sortField)));
+    }
+
+    private String explain(Recorded recorded) throws SQLException {
+
+        return jdbcTemplate.execute((Connection connection) -> {
+
+            try (var statement = connection.prepareStatement("EXPLAIN " + recorded.sql())) {
+
+                for (var parameter : recorded.parameters().entrySet()) {
+
+                    statement.setObject(parameter.getKey(), parameter.getValue());
+                }
+
+                try (var resultSet = statement.executeQuery()) {
+
+                    var plan = new StringBuilder();
+
+                    while (resultSet.next()) {
+
+                        plan.append(resultSet.getString(1));
+                    }
+
+                    return plan.toString();
+                }
+            }
+        });
+    }
+
+    record Recorded(String sql, Map<Integer, Object> parameters) {
+
+    }
+
+    /**
+     * Records every query that reaches the database, with its bind parameters, so it can be explained later.
+     */
+    @TestConfiguration
+    static class RecordingConfiguration {
+
+        @Bean
+        static BeanPostProcessor recordingDataSourcePostProcessor() {
+
+            return new BeanPostProcessor() {
+
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                    if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+
+                        return new RecordingDataSource(dataSource);
+                    }
+
+                    return bean;
+                }
+            };
+        }
+
+    }
+
+    private static class RecordingDataSource extends DelegatingDataSource {
+
+        private RecordingDataSource(DataSource dataSource) {
+
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+
+            var connection = super.getConnection();
+
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+
+                        var result = invoke(method, connection, args);
+
+                        if (method.getName().equals("prepareStatement") && args[0] instanceof String sql
+                                && sql.trim().toLowerCase().startsWith("select")) {
+
+                            return recording((PreparedStatement) result, sql);
+                        }
+
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement recording(PreparedStatement statement, String sql) {
+
+            var parameters = new TreeMap<Integer, Object>();
+
+            return (PreparedStatement) Proxy.newProxyInstance(RecordingDataSource.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+
+                        if (method.getName().startsWith("set") && args != null && args.length >= 2
+                                && args[0] instanceof Integer index) {
+
+                            parameters.put(index, args[1]);
+                        }
+
+                        if (method.getName().equals("executeQuery")) {
+
+                            synchronized (RECORDED) {
+
+                                RECORDED.add(new Recorded(sql, new TreeMap<>(parameters)));
+                            }
+                        }
+
+                        return invoke(method, statement, args);
+                    });
+        }
+
+        private static Object invoke(java.lang.reflect.Method method, Object target, Object[] args) throws Throwable {
+
+            try {
+
+                return method.invoke(target, args);
+            }
+            catch (InvocationTargetException exception) {
+
+                throw exception.getCause();
+            }
+        }
+
+    }
+
+}
@@ -6,6 +6,7 @@ import com.querydsl.core.BooleanBuilder;
 import com.tourism.travels.customer.TravelMapper;
 import com.tourism.travels.exception.GlobalExceptionHandler;
 import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchTicketResource.FacetBucket;
 import com.tourism.travels.pojo.SearchTicketResource.TicketDetail;
 import com.tourism.travels.pojo.TicketRefund;
 import com.tourism.travels.pojo.TicketRequest;
@@ -30,7 +31,11 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 
+import static com.tourism.travels.pojo.SearchRequest.Facet.PACKAGE_ID;
 import static com.tourism.travels.pojo.SearchRequest.FieldName.TRAVEL_DATE;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.domain.Sort.Direction.ASC;
@@ -107,6 +112,62 @@ class TicketControllerTest {
 
     }
 
+    @Nested
+    class GetTicketById {
+
+        @Test
+        void works() throws Exception {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            var ticketResource = getTicketResource();
+            var response = TICKET_DETAILS_RESPONSE.replace("[", "").replace("]", "");
+
+            when(ticketService.getTicketEntityById(123)).thenReturn(ticketEntity);
+            when(travelMapper.toTicketResource(ticketEntity)).thenReturn(ticketResource);
+
+            // Act/Assert
+            mockMvc.perform(get("/tickets/123"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(response));
+
+            verify(ticketService).getTicketEntityById(123);
+            verify(travelMapper).toTicketResource(ticketEntity);
+
+            verifyNoMoreInteractions(ticketService, travelMapper);
+        }
+
+    }
+
+    @Nested
+    class GetTicketsByIds {
+
+        @Test
+        void works() throws Exception {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTicketId(123);
+
+            var ticketEntities = Collections.singletonList(ticketEntity);
+            var ticketResources = Collections.singletonList(getTicketResource());
+
+            when(ticketService.getTicketEntitiesByIds(List.of(123, 456))).thenReturn(ticketEntities);
+            when(travelMapper.toTicketResources(ticketEntities)).thenReturn(ticketResources);
+
+            // Act/Assert
+            mockMvc.perform(post("/tickets/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(BATCH_REQUEST))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(TICKET_BATCH_RESPONSE));
+
+            verify(ticketService).getTicketEntitiesByIds(List.of(123, 456));
+            verify(travelMapper).toTicketResources(ticketEntities);
+
+            verifyNoMoreInteractions(ticketService, travelMapper);
+        }
+
+    }
+
     @Nested
     class CreateTicket {
 
@@ -189,7 +250,6 @@ class TicketControllerTest {
         @Test
         void works() throws Exception {
             // Arrange
-            var predicate = new BooleanBuilder();
             var ticketEntity = new TicketEntity();
             var pageRequest = PageRequest.of(0, 25).withSort(Sort.by(ASC, TRAVEL_DATE.getColumnName()));
 
@@ -206,8 +266,7 @@ class TicketControllerTest {
             ticketDetail.setTotalMembers(2);
             ticketDetail.setTotalCostOfTrip(1500);
 
-            when(predicateBuilder.buildSearchPredicate(any(SearchRequest.class))).thenReturn(predicate);
-            when(ticketService.getTicketsBySearchPredicate(predicate, pageRequest)).thenReturn(ticketEntities);
+            when(ticketService.searchTickets(any(SearchRequest.class), eq(pageRequest))).thenReturn(ticketEntities);
             when(travelMapper.mapTicketDetails(ticketEntity)).thenReturn(ticketDetail);
 
             // Act/Assert
@@ -217,13 +276,74 @@ class TicketControllerTest {
                     .andExpect(status().isOk())
                     .andExpect(content().json(SEARCH_TICKET_RESPONSE));
 
-            verify(predicateBuilder).buildSearchPredicate(any(SearchRequest.class));
-            verify(ticketService).getTicketsBySearchPredicate(predicate, pageRequest);
+            verify(predicateBuilder).requireSearchCriteria(any(SearchRequest.class));
+            verify(ticketService).searchTickets(any(SearchRequest.class), eq(pageRequest));
             verify(travelMapper).mapTicketDetails(ticketEntity);
 
             verifyNoMoreInteractions(predicateBuilder, ticketService, travelMapper);
         }
 
+        @Test
+        void searchesByPredicate_whenRequestContainsListsOfValues() throws Exception {
+            // Arrange
+            var pageRequest = PageRequest.of(0, 25).withSort(Sort.by(ASC, TRAVEL_DATE.getColumnName()));
+            var predicate = new BooleanBuilder();
+
+            when(predicateBuilder.buildSearchPredicate(any(SearchRequest.class))).thenReturn(predicate);
+            when(ticketService.getTicketsBySearchPredicate(predicate, pageRequest))
+                    .thenReturn(new PageImpl<>(List.of(), pageRequest, 0));
+
+            // Act/Assert
+            mockMvc.perform(post("/tickets/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                            {"customerIds": [1, 2, 3], "anyOf": {"packageIds": [4, 5]}}"""))
+                    .andExpect(status().isOk());
+
+            verify(predicateBuilder).requireSearchCriteria(any(SearchRequest.class));
+            verify(predicateBuilder).buildSearchPredicate(any(SearchRequest.class));
+            verify(ticketService).getTicketsBySearchPredicate(predicate, pageRequest);
+
+            verifyNoMoreInteractions(predicateBuilder, ticketService);
+        }
+
+        @Test
+        void returnsFacets_whenFacetsAreRequested() throws Exception {
+            // Arrange
+            var pageRequest = PageRequest.of(0, 25).withSort(Sort.by(ASC, TRAVEL_DATE.getColumnName()));
+            var predicate = new BooleanBuilder();
+
+            var facetBucket = new FacetBucket();
+            facetBucket.setKey("987");
+            facetBucket.setTickets(4);
+            facetBucket.setMembers(9);
+            facetBucket.setRevenue(13500);
+
+            var requestBody = SEARCH_REQUEST.replace("\"sortResultsBy\"", "\"facets\": [\"PACKAGE_ID\"],\n\"sortResultsBy\"");
+
+            when(ticketService.searchTickets(any(SearchRequest.class), eq(pageRequest)))
+                    .thenReturn(new PageImpl<>(List.of(), pageRequest, 0));
+            when(predicateBuilder.buildSearchPredicate(any(SearchRequest.class))).thenReturn(predicate);
+            when(ticketService.getSearchFacets(predicate, EnumSet.of(PACKAGE_ID)))
+                    .thenReturn(Map.of(PACKAGE_ID, List.of(facetBucket)));
+
+            // Act/Assert
+            mockMvc.perform(post("/tickets/search")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(requestBody))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json("""
+                            {
+                              "facets": {
+                                "PACKAGE_ID": [
+                                  {"key": "987", "tickets": 4, "members": 9, "revenue": 13500}
+                                ]
+                              }
+                            }"""));
+
+            verify(ticketService).getSearchFacets(predicate, EnumSet.of(PACKAGE_ID));
+        }
+
         @Test
         void returns400BadRequest_whenPageNumberIsLessThan0() throws Exception {
             // Arrange
@@ -497,6 +617,19 @@ class TicketControllerTest {
 
     }
 
+    private TicketResource getTicketResource() {
+
+        var ticketResource = new TicketResource();
+        ticketResource.setTicketId("123");
+        ticketResource.setCustomerId("789");
+        ticketResource.setPackageId("456");
+        ticketResource.setTravelDate(LocalDate.parse("2022-10-12"));
+        ticketResource.setTotalMembers("2");
+        ticketResource.setTotalCost(3000);
+
+        return ticketResource;
+    }
+
     private TicketRequest getTicketRequest() {
 
         var ticketRequest = new TicketRequest();
@@ -522,6 +655,28 @@ class TicketControllerTest {
                       }
                     ]""";
 
+    private static final String BATCH_REQUEST =
+            """
+                    {
+                      "ids": [123, 456]
+                    }""";
+
+    private static final String TICKET_BATCH_RESPONSE =
+            """
+                    {
+                      "found": [
+                        {
+                          "ticketId": "123",
+                          "customerId": "789",
+                          "packageId": "456",
+                          "travelDate": "2022-10-12",
+                          "totalMembers": "2",
+                          "totalCost": 3000
+                        }
+                      ],
+                      "missingIds": [456]
+                    }""";
+
     public static final String TICKET_REQUEST =
             """
                     {
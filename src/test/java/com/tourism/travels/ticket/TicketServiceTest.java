@@ -5,8 +5,11 @@ import com.querydsl.core.types.Predicate;
 import com.tourism.travels.customer.TravelMapper;
 import com.tourism.travels.exception.BusinessValidationException;
 import com.tourism.travels.exception.NotFoundException;
-import com.tourism.travels.sql.PackageEntity;
+import com.tourism.travels.pojo.SearchRequest;
+import com.tourism.travels.pojo.SearchTicketResource.FacetBucket;
+import com.tourism.travels.sql.TicketAggregate;
 import com.tourism.travels.sql.TicketEntity;
+import com.tourism.travels.sql.TicketReferences;
 import com.tourism.travels.sql.TicketRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -14,14 +17,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
+import static com.tourism.travels.pojo.SearchRequest.Facet.PACKAGE_ID;
+import static com.tourism.travels.pojo.SearchRequest.Facet.TRAVEL_MONTH;
+import static com.tourism.travels.sql.QTicketEntity.ticketEntity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,6 +75,86 @@ class TicketServiceTest {
 
     }
 
+    @Nested
+    class GetTicketEntityById {
+
+        @Test
+        void works() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+
+            when(ticketRepository.findById(890)).thenReturn(Optional.of(ticketEntity));
+
+            // Act
+            var returnedTicketEntity = ticketService.getTicketEntityById(890);
+
+            // Assert
+            assertThat(returnedTicketEntity).isEqualTo(ticketEntity);
+
+            verify(ticketRepository).findById(890);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+        @Test
+        void throwsNotFoundException_whenEntityIsNotFound() {
+            // Arrange
+            when(ticketRepository.findById(890)).thenReturn(Optional.empty());
+
+            // Act/ Assert
+            assertThatThrownBy(() -> ticketService.getTicketEntityById(890))
+                    .isInstanceOf(NotFoundException.class);
+        }
+
+    }
+
+    @Nested
+    class GetTicketEntitiesByIds {
+
+        @Test
+        void works() {
+            // Arrange
+            var ids = List.of(123, 456);
+            var entities = Collections.singletonList(new TicketEntity());
+
+            when(ticketRepository.findAllById(ids)).thenReturn(entities);
+
+            // Act
+            var returnedEntities = ticketService.getTicketEntitiesByIds(ids);
+
+            // Assert
+            assertThat(returnedEntities).isEqualTo(entities);
+
+            verify(ticketRepository).findAllById(ids);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+    }
+
+    @Nested
+    class GetTicketEntitiesByCustomerId {
+
+        @Test
+        void works() {
+            // Arrange
+            var ticketEntities = Collections.singletonList(new TicketEntity());
+
+            when(ticketRepository.findAllByCustomerId(123)).thenReturn(ticketEntities);
+
+            // Act
+            var returnedTicketEntities = ticketService.getTicketEntitiesByCustomerId(123);
+
+            // Assert
+            assertThat(returnedTicketEntities).isEqualTo(ticketEntities);
+
+            verify(ticketRepository).findAllByCustomerId(123);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+    }
+
     @Nested
     class CreateTicket {
 
@@ -72,29 +163,75 @@ class TicketServiceTest {
             // Arrange
             var ticketEntity = new TicketEntity();
             ticketEntity.setTicketId(890);
+            ticketEntity.setCustomerId(7);
+            ticketEntity.setPackageId(3);
+            ticketEntity.setTotalMembers(2);
+
+            when(ticketRepository.reserveTicketId(890)).thenReturn(1);
+            when(ticketRepository.findReferences(7, 3)).thenReturn(Optional.of(new TicketReferences("Sai", 2500)));
 
             // Act
             ticketService.createTicket(ticketEntity);
 
             // Assert
-            verify(ticketRepository).findById(ticketEntity.getTicketId());
-            verify(ticketRepository).save(ticketEntity);
+            assertThat(ticketEntity.getCustomerFirstName()).isEqualTo("Sai");
+            assertThat(ticketEntity.getCostPerPerson()).isEqualTo(2500);
+            assertThat(ticketEntity.getTotalCost()).isEqualTo(5000);
+
+            verify(ticketRepository).reserveTicketId(890);
+            verify(ticketRepository).findReferences(7, 3);
+            verify(ticketRepository).saveAndFlush(ticketEntity);
 
             verifyNoMoreInteractions(ticketRepository);
         }
 
+        @Test
+        void throwsBusinessValidationException_whenTheCustomerDoesNotExist() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTicketId(890);
+            ticketEntity.setCustomerId(7);
+
+            when(ticketRepository.reserveTicketId(890)).thenReturn(1);
+
+            // Act/Assert
+            assertThatThrownBy(() -> ticketService.createTicket(ticketEntity))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("The customerId/packageId is not a valid Id");
+
+            verify(ticketRepository, never()).saveAndFlush(ticketEntity);
+        }
+
         @Test
         void throwsAlreadyExistsException_whenThereIsAnExistingRecord() {
             // Arrange
             var ticketEntity = new TicketEntity();
             ticketEntity.setTicketId(890);
 
-            when(ticketRepository.findById(ticketEntity.getTicketId())).thenReturn(Optional.of(ticketEntity));
+            when(ticketRepository.reserveTicketId(890)).thenReturn(0);
 
             // Act/Assert
             assertThatThrownBy(() -> ticketService.createTicket(ticketEntity))
                     .isInstanceOf(BusinessValidationException.class)
                     .hasMessage("Ticket already exists");
+
+            verify(ticketRepository, never()).saveAndFlush(ticketEntity);
+        }
+
+        @Test
+        void throwsAlreadyExistsException_whenAConcurrentCreateRegisteredTheId() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTicketId(890);
+
+            when(ticketRepository.reserveTicketId(890)).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+            // Act/Assert
+            assertThatThrownBy(() -> ticketService.createTicket(ticketEntity))
+                    .isInstanceOf(BusinessValidationException.class)
+                    .hasMessage("Ticket already exists");
+
+            verify(ticketRepository, never()).saveAndFlush(ticketEntity);
         }
 
         @Test
@@ -103,7 +240,9 @@ class TicketServiceTest {
             var ticketEntity = new TicketEntity();
             ticketEntity.setTicketId(890);
 
-            when(ticketRepository.save(ticketEntity)).thenThrow(new RuntimeException("runtime exception"));
+            when(ticketRepository.reserveTicketId(890)).thenReturn(1);
+            when(ticketRepository.findReferences(0, 0)).thenReturn(Optional.of(new TicketReferences("Sai", 2500)));
+            when(ticketRepository.saveAndFlush(ticketEntity)).thenThrow(new RuntimeException("runtime exception"));
 
             // Act/Assert
             assertThatThrownBy(() -> ticketService.createTicket(ticketEntity))
@@ -114,25 +253,80 @@ class TicketServiceTest {
     }
 
     @Nested
-    class GetTicketsBySearchPredicate {
+    class SearchTickets {
 
         @Test
         void works() {
             // Arrange
-            Predicate predicate = new BooleanBuilder();
+            var searchRequest = new SearchRequest();
+            searchRequest.setCustomerId("1");
+            searchRequest.setEmail("sai@gmail.com");
+            searchRequest.setTravelDate("2030-01-15");
             var ticketEntity = new TicketEntity();
             var pageRequest = PageRequest.of(0, 25);
 
             PageImpl<TicketEntity> ticketEntities =
                     new PageImpl<>(Collections.singletonList(ticketEntity), pageRequest, 20);
 
+            when(ticketRepository.search(1, null, "sai@gmail.com", LocalDate.parse("2030-01-15"), pageRequest))
+                    .thenReturn(ticketEntities);
+
+            // Act
+            var retrievedTicketEntities = ticketService.searchTickets(searchRequest, pageRequest);
+
+            // Assert
+            assertThat(retrievedTicketEntities).isNotNull().isNotEmpty().isEqualTo(ticketEntities);
+
+            verify(ticketRepository).search(1, null, "sai@gmail.com", LocalDate.parse("2030-01-15"), pageRequest);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+        @Test
+        void searchesArchivedTicketsToo_whenIncludeArchivedIsSet() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setPackageId("3");
+            searchRequest.setIncludeArchived(true);
+            var pageRequest = PageRequest.of(0, 25);
+
+            PageImpl<TicketEntity> ticketEntities =
+                    new PageImpl<>(Collections.singletonList(new TicketEntity()), pageRequest, 1);
+
+            when(ticketRepository.searchIncludingArchived(null, 3, null, null, pageRequest)).thenReturn(ticketEntities);
+
+            // Act
+            var retrievedTicketEntities = ticketService.searchTickets(searchRequest, pageRequest);
+
+            // Assert
+            assertThat(retrievedTicketEntities).isEqualTo(ticketEntities);
+
+            verify(ticketRepository).searchIncludingArchived(null, 3, null, null, pageRequest);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+    }
+
+    @Nested
+    class GetTicketsBySearchPredicate {
+
+        @Test
+        void works() {
+            // Arrange
+            Predicate predicate = new BooleanBuilder();
+            var pageRequest = PageRequest.of(0, 25);
+
+            PageImpl<TicketEntity> ticketEntities =
+                    new PageImpl<>(Collections.singletonList(new TicketEntity()), pageRequest, 20);
+
             when(ticketRepository.findAll(predicate, pageRequest)).thenReturn(ticketEntities);
 
             // Act
             var retrievedTicketEntities = ticketService.getTicketsBySearchPredicate(predicate, pageRequest);
 
             // Assert
-            assertThat(retrievedTicketEntities).isNotNull().isNotEmpty().isEqualTo(ticketEntities);
+            assertThat(retrievedTicketEntities).isEqualTo(ticketEntities);
 
             verify(ticketRepository).findAll(predicate, pageRequest);
 
@@ -141,6 +335,43 @@ class TicketServiceTest {
 
     }
 
+    @Nested
+    class GetSearchFacets {
+
+        @Test
+        void runsOneCappedGroupedQueryPerFacet() {
+            // Arrange
+            Predicate predicate = new BooleanBuilder();
+
+            when(ticketRepository.aggregate(predicate, ticketEntity.packageId, 50)).thenReturn(List.of(
+                    new TicketAggregate(1, 2, 4, 6000),
+                    new TicketAggregate(2, 2, 4, 20000)));
+            when(ticketRepository.aggregate(predicate, ticketEntity.travelDate.yearMonth(), 50)).thenReturn(List.of(
+                    new TicketAggregate(203001, 3, 7, 21000),
+                    new TicketAggregate(203002, 1, 1, 5000)));
+
+            // Act
+            var facets = ticketService.getSearchFacets(predicate, EnumSet.of(PACKAGE_ID, TRAVEL_MONTH));
+
+            // Assert
+            assertThat(facets).containsOnlyKeys(PACKAGE_ID, TRAVEL_MONTH);
+            assertThat(facets.get(PACKAGE_ID))
+                    .extracting(FacetBucket::getKey, FacetBucket::getTickets, FacetBucket::getMembers,
+                            FacetBucket::getRevenue)
+                    .containsExactly(tuple("1", 2L, 4L, 6000L), tuple("2", 2L, 4L, 20000L));
+            assertThat(facets.get(TRAVEL_MONTH))
+                    .extracting(FacetBucket::getKey, FacetBucket::getTickets, FacetBucket::getMembers,
+                            FacetBucket::getRevenue)
+                    .containsExactly(tuple("2030-01", 3L, 7L, 21000L), tuple("2030-02", 1L, 1L, 5000L));
+
+            verify(ticketRepository).aggregate(predicate, ticketEntity.packageId, 50);
+            verify(ticketRepository).aggregate(predicate, ticketEntity.travelDate.yearMonth(), 50);
+
+            verifyNoMoreInteractions(ticketRepository);
+        }
+
+    }
+
     @Nested
     class UpdateTicketById {
 
@@ -149,20 +380,57 @@ class TicketServiceTest {
             // Arrange
             var ticketEntity = new TicketEntity();
             ticketEntity.setTicketId(123);
+            ticketEntity.setPackageId(3);
+            ticketEntity.setTotalMembers(3);
+            ticketEntity.setCostPerPerson(2000);
 
             when(ticketRepository.findById(ticketEntity.getTicketId())).thenReturn(Optional.of(ticketEntity));
+            when(ticketRepository.findReferences(0, 3)).thenReturn(Optional.of(new TicketReferences("Sai", 2500)));
 
             // Act
             ticketService.updateTicketById(ticketEntity);
 
             // Assert
+            assertThat(ticketEntity.getCustomerFirstName()).isEqualTo("Sai");
+            assertThat(ticketEntity.getCostPerPerson()).isEqualTo(2000);
+            assertThat(ticketEntity.getTotalCost()).isEqualTo(6000);
+
             verify(ticketRepository).findById(ticketEntity.getTicketId());
             verify(travelMapper).updateTicketEntity(any(TicketEntity.class), any(TicketEntity.class));
+            verify(ticketRepository).findReferences(0, 3);
             verify(ticketRepository).save(ticketEntity);
 
             verifyNoMoreInteractions(travelMapper, ticketRepository);
         }
 
+        @Test
+        void takesTheNewPackagesPrice_whenThePackageChanges() {
+            // Arrange
+            var ticketEntity = new TicketEntity();
+            ticketEntity.setTicketId(123);
+            ticketEntity.setPackageId(3);
+            ticketEntity.setTotalMembers(3);
+            ticketEntity.setCostPerPerson(2000);
+
+            var ticketEntityWithUpdates = new TicketEntity();
+            ticketEntityWithUpdates.setTicketId(123);
+            ticketEntityWithUpdates.setPackageId(4);
+
+            when(ticketRepository.findById(ticketEntity.getTicketId())).thenReturn(Optional.of(ticketEntity));
+            doAnswer(invocation -> {
+                ticketEntity.setPackageId(4);
+                return null;
+            }).when(travelMapper).updateTicketEntity(ticketEntity, ticketEntityWithUpdates);
+            when(ticketRepository.findReferences(0, 4)).thenReturn(Optional.of(new TicketReferences("Sai", 2500)));
+
+            // Act
+            ticketService.updateTicketById(ticketEntityWithUpdates);
+
+            // Assert
+            assertThat(ticketEntity.getCostPerPerson()).isEqualTo(2500);
+            assertThat(ticketEntity.getTotalCost()).isEqualTo(7500);
+        }
+
         @Test
         void throwsNotFoundException_whenThereIsNoRecordPresent() {
             // Arrange
@@ -183,6 +451,7 @@ class TicketServiceTest {
             ticketEntity.setTicketId(123);
 
             when(ticketRepository.findById(ticketEntity.getTicketId())).thenReturn(Optional.of(ticketEntity));
+            when(ticketRepository.findReferences(0, 0)).thenReturn(Optional.of(new TicketReferences("Sai", 2500)));
 
             when(ticketRepository.save(ticketEntity)).thenThrow(BusinessValidationException.class);
 
@@ -202,13 +471,11 @@ class TicketServiceTest {
             // Arrange
             var ticketId = 123;
 
-            var packageEntity = new PackageEntity();
-            packageEntity.setCostPerPerson(5000);
-
             var ticketEntity = new TicketEntity();
             ticketEntity.setTicketId(ticketId);
             ticketEntity.setTotalMembers(4);
-            ticketEntity.setPackageEntity(packageEntity);
+            ticketEntity.setCostPerPerson(5000);
+            ticketEntity.setTotalCost(20000);
 
             when(ticketRepository.findById(ticketId)).thenReturn(Optional.of(ticketEntity));
 
@@ -220,6 +487,7 @@ class TicketServiceTest {
 
             verify(ticketRepository).findById(ticketId);
             verify(ticketRepository).deleteById(ticketId);
+            verify(ticketRepository).releaseTicketId(ticketId);
 
             verifyNoMoreInteractions(ticketRepository);
         }
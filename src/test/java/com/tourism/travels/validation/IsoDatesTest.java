@@ -0,0 +1,84 @@
+package com.tourism.travels.validation;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IsoDatesTest {
+
+    @Nested
+    class ToYearMonthDay {
+
+        @Test
+        void returnsTheDateAsAnInt_whenDateIsInProperFormat() {
+            // Act
+            var yearMonthDay = IsoDates.toYearMonthDay("2020-12-01");
+
+            // Assert
+            assertThat(yearMonthDay).isEqualTo(20201201);
+        }
+
+        @Test
+        void acceptsTheTwentyNinthOfFebruary_inLeapYears() {
+            // Act/Assert
+            assertThat(IsoDates.toYearMonthDay("2024-02-29")).isEqualTo(20240229);
+            assertThat(IsoDates.toYearMonthDay("2000-02-29")).isEqualTo(20000229);
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"", "date", "2020-1-01", "2020/12/01", "2020-12-1", "20201201", "+2020-12-01",
+                "2020-12-01 ", "2020-1a-01", "0000-01-01", "2020-00-01", "2020-13-01", "2020-12-00", "2020-12-32",
+                "2020-04-31", "2023-02-29", "1900-02-29"})
+        void returnsInvalid_whenDateIsNotARealYearMonthDayDate(String date) {
+            // Act
+            var yearMonthDay = IsoDates.toYearMonthDay(date);
+
+            // Assert
+            assertThat(yearMonthDay).isEqualTo(IsoDates.INVALID);
+        }
+
+    }
+
+    @Nested
+    class Parse {
+
+        @Test
+        void returnsTheLocalDate_whenDateIsInProperFormat() {
+            // Act
+            var date = IsoDates.parse("2022-12-15");
+
+            // Assert
+            assertThat(date).isEqualTo(LocalDate.of(2022, 12, 15));
+        }
+
+        @Test
+        void returnsNull_whenDateIsInImproperFormat() {
+            // Act
+            var date = IsoDates.parse("2022-12-32");
+
+            // Assert
+            assertThat(date).isNull();
+        }
+
+    }
+
+    @Nested
+    class Today {
+
+        @Test
+        void returnsTodayAsAnInt() {
+            // Act
+            var today = IsoDates.today();
+
+            // Assert
+            assertThat(today).isEqualTo(IsoDates.toYearMonthDay(LocalDate.now().toString()));
+        }
+
+    }
+
+}
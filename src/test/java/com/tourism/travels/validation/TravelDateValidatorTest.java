@@ -0,0 +1,79 @@
+package com.tourism.travels.validation;
+
+import com.tourism.travels.pojo.SearchRequest;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeBuilderCustomizableContext;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TravelDateValidatorTest {
+
+    @Mock
+    private ConstraintViolationBuilder builder;
+
+    @Mock
+    private NodeBuilderCustomizableContext nodeBuilder;
+
+    @Mock
+    private ConstraintValidatorContext constraintValidatorContext;
+
+    private final TravelDateValidator travelDateValidator = new TravelDateValidator();
+
+    @Nested
+    class IsValid {
+
+        @Test
+        void returnsTrue_whenTravelDateIsNull() {
+            // Act
+            var valid = travelDateValidator.isValid(new SearchRequest(), null);
+
+            // Assert
+            assertThat(valid).isTrue();
+        }
+
+        @Test
+        void returnsTrue_andKeepsTheParsedDate_whenTravelDateIsInProperFormat() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setTravelDate("2020-12-01");
+
+            // Act
+            var valid = travelDateValidator.isValid(searchRequest, null);
+
+            // Assert
+            assertThat(valid).isTrue();
+            assertThat(searchRequest.parsedTravelDate()).isEqualTo(LocalDate.of(2020, 12, 1));
+        }
+
+        @Test
+        void returnsFalse_onTheTravelDateField_whenTravelDateIsInImProperFormat() {
+            // Arrange
+            var searchRequest = new SearchRequest();
+            searchRequest.setTravelDate("date");
+
+            when(constraintValidatorContext.getDefaultConstraintMessageTemplate()).thenReturn("wrong format");
+            when(constraintValidatorContext.buildConstraintViolationWithTemplate("wrong format")).thenReturn(builder);
+            when(builder.addPropertyNode("travelDate")).thenReturn(nodeBuilder);
+
+            // Act
+            var valid = travelDateValidator.isValid(searchRequest, constraintValidatorContext);
+
+            // Assert
+            assertThat(valid).isFalse();
+            verify(constraintValidatorContext).disableDefaultConstraintViolation();
+            verify(nodeBuilder).addConstraintViolation();
+        }
+
+    }
+
+}
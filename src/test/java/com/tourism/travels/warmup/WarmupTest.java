@@ -0,0 +1,112 @@
+package com.tourism.travels.warmup;
+
+import com.tourism.travels.warmup.Warmup.State;
+import com.tourism.travels.warmup.Warmup.Step;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WarmupTest {
+
+    @Nested
+    class Run {
+
+        @Test
+        void runsEveryStepToCompletion_withinTheBudget() {
+            // Arrange
+            var calls = new AtomicInteger();
+            var warmup = new Warmup(Duration.ofSeconds(5), List.of(
+                    new Step("first", 3, iteration -> calls.incrementAndGet()),
+                    new Step("second", 2, iteration -> calls.incrementAndGet())));
+
+            // Act
+            warmup.run();
+
+            // Assert
+            var report = warmup.report();
+
+            assertThat(calls).hasValue(5);
+            assertThat(report.state()).isEqualTo(State.COMPLETED);
+            assertThat(report.steps())
+                    .extracting(x -> x.name() + ":" + x.state() + ":" + x.completed())
+                    .containsExactly("first:COMPLETED:3", "second:COMPLETED:2");
+        }
+
+        @Test
+        void stopsAndSkipsTheRemainingSteps_whenTheBudgetRunsOut() {
+            // Arrange
+            var warmup = new Warmup(Duration.ofMillis(20), List.of(
+                    new Step("slow", 1000, iteration -> sleep(5)),
+                    new Step("skipped", 1, iteration -> { })));
+
+            // Act
+            warmup.run();
+
+            // Assert
+            var report = warmup.report();
+
+            assertThat(report.state()).isEqualTo(State.BUDGET_EXCEEDED);
+            assertThat(report.steps().get(0).state()).isEqualTo(State.BUDGET_EXCEEDED);
+            assertThat(report.steps().get(0).completed()).isBetween(1, 999);
+            assertThat(report.steps().get(1).state()).isEqualTo(State.PENDING);
+        }
+
+        @Test
+        void carriesOn_whenAStepFails() {
+            // Arrange
+            var calls = new AtomicInteger();
+            var warmup = new Warmup(Duration.ofSeconds(5), List.of(
+                    new Step("failing", 3, iteration -> { throw new IllegalStateException("boom"); }),
+                    new Step("next", 1, iteration -> calls.incrementAndGet())));
+
+            // Act
+            warmup.run();
+
+            // Assert
+            var report = warmup.report();
+
+            assertThat(calls).hasValue(1);
+            assertThat(report.state()).isEqualTo(State.COMPLETED);
+            assertThat(report.steps().get(0).state()).isEqualTo(State.FAILED);
+        }
+
+    }
+
+    @Nested
+    class Report {
+
+        @Test
+        void showsEveryStepAsPending_beforeTheWarmupStarts() {
+            // Arrange
+            var warmup = new Warmup(Duration.ofSeconds(5), List.of(new Step("first", 3, iteration -> { })));
+
+            // Act
+            var report = warmup.report();
+
+            // Assert
+            assertThat(report.state()).isEqualTo(State.PENDING);
+            assertThat(report.elapsedMs()).isZero();
+            assertThat(report.budgetMs()).isEqualTo(5000);
+            assertThat(report.steps().get(0).state()).isEqualTo(State.PENDING);
+        }
+
+    }
+
+    private static void sleep(long millis) {
+
+        try {
+
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}